@@ -101,27 +101,49 @@ export async function getBidHistory(
   return res.json();
 }
 
+// Keyset-paginated lists: the server returns one page per request and the cursor of the next
+// page in the X-Next-Cursor header (absent on the last page).
+const NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+async function fetchAllPages<T>(
+  path: string,
+  errorLabel: string,
+  params?: URLSearchParams
+): Promise<T[]> {
+  const items: T[] = [];
+  let cursor: string | null = null;
+  do {
+    const query = new URLSearchParams(params);
+    if (cursor) query.set("cursor", cursor);
+    const qs = query.toString();
+    const res = await fetch(`${BASE}${path}${qs ? `?${qs}` : ""}`, {
+      credentials: "include", // Use authenticated user
+    });
+    if (!res.ok) throw new Error(`Failed to load ${errorLabel} (${res.status})`);
+    const page: T[] = await res.json();
+    items.push(...page);
+    cursor = res.headers.get(NEXT_CURSOR_HEADER);
+  } while (cursor);
+  return items;
+}
+
 export async function getUserBidsSummary(): Promise<UserBidSummaryItem[]> {
   console.log("🔍 getUserBidsSummary - making request with credentials...");
-  const res = await fetch(`${BASE}/bids/my/summary`, {
-    credentials: "include", // Use authenticated user
-  });
-  console.log("📡 getUserBidsSummary - response status:", res.status, res.ok);
-  if (!res.ok) {
-    console.error("❌ getUserBidsSummary - failed with status:", res.status);
-    throw new Error(`Failed to load user bids (${res.status})`);
+  try {
+    const data = await fetchAllPages<UserBidSummaryItem>(
+      "/bids/my/summary",
+      "user bids"
+    );
+    console.log("✅ getUserBidsSummary - response data:", data);
+    return data;
+  } catch (err) {
+    console.error("❌ getUserBidsSummary - failed:", err);
+    throw err;
   }
-  const data = await res.json();
-  console.log("✅ getUserBidsSummary - response data:", data);
-  return data;
 }
 
 export async function getUserAuctions(): Promise<UserAuctionItem[]> {
-  const res = await fetch(`${BASE}/auctions/my`, {
-    credentials: "include", // Use authenticated user
-  });
-  if (!res.ok) throw new Error(`Failed to load user auctions (${res.status})`);
-  return res.json();
+  return fetchAllPages<UserAuctionItem>("/auctions/my", "user auctions");
 }
 
 export async function createAuction(
@@ -0,0 +1,86 @@
+-- Benchmark for UserAuctionsQueries.findAuctionsWithBidsByUserIdDomain
+-- ("auctions I've bid on", keyset paged).
+--
+-- Run against a scratch database that has the schema up to V5 (user_auction_bid_state):
+--   psql -d myapp_bench -f bench/auctions_with_bids.sql
+-- Everything runs inside a transaction that is rolled back at the end, so no data is left behind.
+--
+-- Scenario: 50,000 auctions and 200 bidders with ~20 bids each, plus one power user (id 999999)
+-- who has bid on 5,000 auctions.
+-- Not run yet, so no plan or latency is claimed for this query. Expected plan: an Index Scan on
+-- idx_user_auction_bid_state_page (no Sort node) with a nested-loop join to auctions by primary key,
+-- stopping at the LIMIT. Things to check in the output: that no Sort appears, that each page reads about
+-- LIMIT rows of user_auction_bid_state, and that the deep page costs the same as the first one.
+
+\timing on
+BEGIN;
+
+INSERT INTO public.auctions (title, description, condition, categories, min_price, bid_increment,
+                             current_bid_amount, bids_count, start_date, end_date, seller_id, status,
+                             created_at, updated_at)
+SELECT 'bench ' || g, 'bench', 'new', 'other', 10, 1, 10 + (g % 100), g % 7,
+       now() - interval '30 days', now() + (g % 1000) * interval '1 minute', 1,
+       CASE WHEN g % 3 = 0 THEN 'sold' WHEN g % 3 = 1 THEN 'unsold' ELSE 'active' END,
+       now(), now()
+FROM generate_series(1, 50000) g;
+
+CREATE TEMP TABLE bench_auctions AS
+SELECT id FROM public.auctions WHERE title LIKE 'bench %';
+
+INSERT INTO public.bids (auction_id, bidder_id, max_bid)
+SELECT a.id, 1000 + (a.id % 200), 20
+FROM bench_auctions a
+WHERE a.id % 10 < 8;
+
+INSERT INTO public.bids (auction_id, bidder_id, max_bid)
+SELECT a.id, 999999, 25
+FROM bench_auctions a
+ORDER BY a.id
+LIMIT 5000;
+
+-- Bid placement keeps this table current; same statement as the V5 backfill
+INSERT INTO public.user_auction_bid_state (user_id, auction_id, end_date, your_max, leading, status, updated_at)
+SELECT b.bidder_id, a.id, a.end_date, MAX(b.max_bid),
+       bool_or(a.highest_user_id = b.bidder_id),
+       CASE WHEN a.status = 'active' THEN 'active' ELSE 'ended' END,
+       now()
+FROM public.bids b
+JOIN bench_auctions ba ON ba.id = b.auction_id
+JOIN public.auctions a ON a.id = b.auction_id
+GROUP BY b.bidder_id, a.id, a.end_date, a.status
+ON CONFLICT (user_id, auction_id) DO NOTHING;
+
+ANALYZE public.auctions;
+ANALYZE public.bids;
+ANALYZE public.user_auction_bid_state;
+
+-- First page, all statuses
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT a.id, a.title, a.status, a.bids_count, s.end_date,
+       COALESCE(a.current_bid_amount, a.min_price) AS current_price, a.created_at
+FROM public.user_auction_bid_state s
+JOIN public.auctions a ON a.id = s.auction_id
+WHERE s.user_id = 999999
+ORDER BY s.end_date DESC, s.auction_id DESC LIMIT 101;
+
+-- First page, status filter
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT a.id, a.title, a.status, a.bids_count, s.end_date,
+       COALESCE(a.current_bid_amount, a.min_price) AS current_price, a.created_at
+FROM public.user_auction_bid_state s
+JOIN public.auctions a ON a.id = s.auction_id
+WHERE s.user_id = 999999
+  AND a.status = 'active'
+ORDER BY s.end_date DESC, s.auction_id DESC LIMIT 101;
+
+-- Deep page (cursor taken from the middle of the user's range)
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT a.id, a.title, a.status, a.bids_count, s.end_date,
+       COALESCE(a.current_bid_amount, a.min_price) AS current_price, a.created_at
+FROM public.user_auction_bid_state s
+JOIN public.auctions a ON a.id = s.auction_id
+WHERE s.user_id = 999999
+  AND (s.end_date, s.auction_id) < (now() + interval '500 minutes', 2147483647)
+ORDER BY s.end_date DESC, s.auction_id DESC LIMIT 101;
+
+ROLLBACK;
@@ -0,0 +1,83 @@
+package com.myapp.server.auth.service;
+
+import com.myapp.server.common.auth.JwtTokenExtractor;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request auth cost: resolving the user id from the auth cookie.
+ * <ul>
+ *   <li>{@code parserPerCall} - the previous behaviour: build a parser and verify on every call</li>
+ *   <li>{@code sharedParser} - shared parser, full verification (cache miss cost)</li>
+ *   <li>{@code cachedSubject} - shared parser + verified-token cache (returning cookie)</li>
+ *   <li>{@code extractorRequest} - cookie lookup + cached subject, as controllers call it</li>
+ * </ul>
+ * Run with {@code mvn -Pbench test-compile exec:exec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthBenchmark {
+
+    private static final String SECRET = "mySecretKeyThatIsAtLeast32BytesLongForSecureSigning";
+
+    private SecretKey key;
+    private JwtService jwtService;
+    private JwtTokenExtractor extractor;
+    private MockHttpServletRequest request;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        jwtService = new JwtService(SECRET, 3600, 10_000, new SimpleMeterRegistry());
+        token = jwtService.generateToken("42", Map.of("email", "bench@example.com", "name", "Bench User"));
+
+        extractor = new JwtTokenExtractor(jwtService);
+        ReflectionTestUtils.setField(extractor, "cookieName", "auth_token");
+        request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("auth_token", token));
+    }
+
+    @Benchmark
+    public String parserPerCall() {
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+    }
+
+    @Benchmark
+    public String sharedParser() {
+        return jwtService.verify(token).subject();
+    }
+
+    @Benchmark
+    public String cachedSubject() {
+        return jwtService.getSubject(token);
+    }
+
+    @Benchmark
+    public Long extractorRequest() {
+        return extractor.getCurrentUserId(request);
+    }
+}
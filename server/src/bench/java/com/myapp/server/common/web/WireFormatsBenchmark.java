@@ -0,0 +1,101 @@
+package com.myapp.server.common.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.myapp.server.auctions.dto.AuctionListItem;
+import com.myapp.server.auctions.dto.AuctionListPage;
+import com.myapp.server.bids.service.BidsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization cost and payload size per response, JSON vs Smile vs CBOR, using the same mappers
+ * the message converters use:
+ * <ul>
+ *   <li>{@code listingPage} - a full listing page (100 items)</li>
+ *   <li>{@code bidHistory} - a 200-entry bid history</li>
+ * </ul>
+ * Payload sizes are printed once per format at setup.
+ * Run with {@code mvn -Pbench test-compile exec:exec -Djmh.args=WireFormatsBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatsBenchmark {
+
+    @Param({"json", "x-jackson-smile", "cbor"})
+    public String format;
+
+    private ObjectMapper mapper;
+    private AuctionListPage listing;
+    private List<BidsService.BidHistoryItem> history;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        GenericApplicationContext context = new GenericApplicationContext();
+        // Boot's builder is a prototype bean: every caller gets a fresh one
+        context.registerBean(Jackson2ObjectMapperBuilder.class, Jackson2ObjectMapperBuilder::json,
+            definition -> definition.setScope("prototype"));
+        context.refresh();
+        ObjectMapper json = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        WireFormats wireFormats = new WireFormats(json, context.getBeanProvider(Jackson2ObjectMapperBuilder.class));
+        mapper = wireFormats.mapperFor(new MediaType("application", format));
+
+        OffsetDateTime base = OffsetDateTime.of(2026, 10, 1, 12, 0, 0, 123_456_000, ZoneOffset.UTC);
+        List<AuctionListItem> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(new AuctionListItem((long) i, "Vintage camera lens #" + i,
+                "Manual focus lens in very good condition, light wear on the barrel",
+                "used_good", "electronics,photography",
+                new BigDecimal("150.00"), new BigDecimal("10.00"), new BigDecimal(String.valueOf(150 + i * 10) + ".00"),
+                i % 17, new BigDecimal(String.valueOf(160 + i * 10) + ".00"), base.plusHours(i),
+                List.of("http://localhost:8081/images/" + i + "_0.jpg", "http://localhost:8081/images/" + i + "_1.jpg")));
+        }
+        listing = new AuctionListPage(0, 100, 2500, 25, items);
+
+        history = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            history.add(new BidsService.BidHistoryItem((long) i, (long) i / 2, 1000L + i % 7,
+                new BigDecimal(String.valueOf(150 + i * 5) + ".00"), base.plusSeconds(i * 37L),
+                i % 3 == 0 ? "AUTO_RAISE" : "USER_BID", i % 3 == 0 ? "אוטומטי" : "ידני"));
+        }
+
+        System.out.printf("%n[%s] listing page: %d bytes, bid history: %d bytes%n",
+            format, mapper.writeValueAsBytes(listing).length, mapper.writeValueAsBytes(history).length);
+    }
+
+    @Benchmark
+    public byte[] listingPage() throws Exception {
+        return mapper.writeValueAsBytes(listing);
+    }
+
+    @Benchmark
+    public byte[] bidHistory() throws Exception {
+        return mapper.writeValueAsBytes(history);
+    }
+}
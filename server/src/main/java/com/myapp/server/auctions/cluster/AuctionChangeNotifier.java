@@ -0,0 +1,212 @@
+package com.myapp.server.auctions.cluster;
+
+import com.myapp.server.auctions.event.RemoteAuctionChangesEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tells every node which auctions changed, so their detail/history caches and read model do not
+ * serve stale state until a TTL or reconciliation catches up.
+ * <ul>
+ *   <li>Send: the create, bid and close events are written to the outbox with their transaction, and
+ *       the outbox handlers in this package call {@link #broadcast} from the dispatcher. The
+ *       {@code pg_notify} therefore runs in its own short transaction, off the bid path; NOTIFY's
+ *       commit-time queue lock never extends the bid transaction or its auction row lock. The cost is
+ *       the outbox poll delay ({@code app.outbox.poll-ms}) before other nodes hear of a change.</li>
+ *   <li>Receive: one worker thread LISTENs on a pinned connection and republishes notifications as
+ *       {@link RemoteAuctionChangesEvent}. The dispatcher may run on any node, so the writing node
+ *       hears its own changes too; listeners skip what they already hold at the broadcast version.
+ *       After a reconnect it publishes {@link RemoteAuctionChangesEvent#everything()}, since
+ *       notifications sent meanwhile are lost.</li>
+ * </ul>
+ * Payload: {@code <version as epoch micros>:<id>,<id>,...} (version empty when unknown), split to stay
+ * under the 8000-byte NOTIFY limit.
+ */
+@Slf4j
+@Component
+public class AuctionChangeNotifier {
+
+    static final String CHANNEL = "auction_changes";
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbc;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long pollMs;
+    private final long retryMs;
+    private volatile Thread worker;
+
+    public AuctionChangeNotifier(DataSource dataSource,
+                                 JdbcTemplate jdbc,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${app.auctions.change-notify.poll-ms:1000}") long pollMs,
+                                 @Value("${app.auctions.change-notify.retry-ms:5000}") long retryMs) {
+        this.dataSource = dataSource;
+        this.jdbc = jdbc;
+        this.eventPublisher = eventPublisher;
+        this.pollMs = pollMs;
+        this.retryMs = retryMs;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker = Thread.ofPlatform().name("auction-changes").daemon().start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    // === Send (outbox dispatcher, outside any transaction) ===
+
+    /**
+     * Notifies all nodes that the auctions changed. version is the updated_at the write committed
+     * (null when unknown); nodes already holding that version skip the reload, which is what keeps the
+     * writing node from re-reading its own change. Called with committed changes only; a failure
+     * propagates so the outbox retries the event.
+     */
+    public void broadcast(List<Long> auctionIds, OffsetDateTime version) {
+        for (String payload : payloads(auctionIds, version)) {
+            jdbc.queryForList("SELECT pg_notify(?, ?)", CHANNEL, payload);
+        }
+    }
+
+    /**
+     * Splits the ids into as few payloads as fit the NOTIFY size limit, each prefixed with the version.
+     */
+    static List<String> payloads(List<Long> auctionIds, OffsetDateTime version) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder current = new StringBuilder(version == null ? "" : Long.toString(epochMicros(version))).append(':');
+        int empty = current.length();
+        for (Long id : auctionIds) {
+            String token = id.toString();
+            if (current.length() > empty && current.length() + 1 + token.length() > MAX_PAYLOAD_BYTES) {
+                payloads.add(current.toString());
+                current.setLength(empty);
+            }
+            if (current.length() > empty) {
+                current.append(',');
+            }
+            current.append(token);
+        }
+        if (current.length() > empty) {
+            payloads.add(current.toString());
+        }
+        return payloads;
+    }
+
+    /**
+     * The change a payload describes.
+     */
+    static RemoteAuctionChangesEvent parse(String payload) {
+        int separator = payload.indexOf(':');
+        if (separator < 0) {
+            throw new NumberFormatException("No version separator");
+        }
+        OffsetDateTime version = separator == 0 ? null : fromEpochMicros(Long.parseLong(payload.substring(0, separator)));
+        List<Long> ids = new ArrayList<>();
+        if (separator < payload.length() - 1) {
+            for (String token : payload.substring(separator + 1).split(",")) {
+                ids.add(Long.parseLong(token));
+            }
+        }
+        return new RemoteAuctionChangesEvent(ids, version, false);
+    }
+
+    private static long epochMicros(OffsetDateTime time) {
+        Instant instant = time.toInstant();
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+
+    private static OffsetDateTime fromEpochMicros(long micros) {
+        return Instant.EPOCH.plus(micros, ChronoUnit.MICROS).atOffset(ZoneOffset.UTC);
+    }
+
+    // === Receive (worker thread) ===
+
+    private void run() {
+        boolean connectedBefore = false;
+        while (!Thread.currentThread().isInterrupted()) {
+            try (Connection connection = dataSource.getConnection()) {
+                connection.setAutoCommit(true);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                if (connectedBefore) {
+                    publish(RemoteAuctionChangesEvent.everything());
+                }
+                connectedBefore = true;
+                try {
+                    listen(connection.unwrap(PGConnection.class));
+                } finally {
+                    // The connection goes back to the pool; don't leave it subscribed
+                    try (Statement statement = connection.createStatement()) {
+                        statement.execute("UNLISTEN *");
+                    } catch (SQLException e) {
+                        log.debug("Could not unlisten: {}", e.getMessage());
+                    }
+                }
+            } catch (SQLException e) {
+                log.warn("Auction change listener disconnected, retrying in {} ms: {}", retryMs, e.getMessage());
+                try {
+                    Thread.sleep(retryMs);
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void listen(PGConnection connection) throws SQLException {
+        while (!Thread.currentThread().isInterrupted()) {
+            PGNotification[] notifications = connection.getNotifications((int) pollMs);
+            if (notifications == null) {
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                RemoteAuctionChangesEvent event;
+                try {
+                    event = parse(notification.getParameter());
+                } catch (NumberFormatException e) {
+                    log.warn("Ignoring malformed auction change payload: {}", notification.getParameter());
+                    continue;
+                }
+                if (!event.auctionIds().isEmpty()) {
+                    publish(event);
+                }
+            }
+        }
+    }
+
+    private void publish(RemoteAuctionChangesEvent event) {
+        try {
+            eventPublisher.publishEvent(event);
+        } catch (RuntimeException e) {
+            // A failing listener must not end the worker; later notifications still need applying
+            log.warn("Applying remote auction changes failed: {}", e.getMessage());
+        }
+    }
+}
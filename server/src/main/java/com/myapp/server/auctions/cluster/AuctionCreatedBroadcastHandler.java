@@ -0,0 +1,28 @@
+package com.myapp.server.auctions.cluster;
+
+import com.myapp.server.auctions.event.AuctionCreatedEvent;
+import com.myapp.server.common.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Tells every node's read model about a new auction (idempotent, safe to redeliver).
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionCreatedBroadcastHandler implements OutboxHandler<AuctionCreatedEvent> {
+
+    private final AuctionChangeNotifier notifier;
+
+    @Override
+    public Class<AuctionCreatedEvent> eventType() {
+        return AuctionCreatedEvent.class;
+    }
+
+    @Override
+    public void handle(AuctionCreatedEvent event) {
+        notifier.broadcast(List.of(event.auctionId()), null);
+    }
+}
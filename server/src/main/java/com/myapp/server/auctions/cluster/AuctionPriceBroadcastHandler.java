@@ -0,0 +1,28 @@
+package com.myapp.server.auctions.cluster;
+
+import com.myapp.server.auctions.event.AuctionPriceChangedEvent;
+import com.myapp.server.common.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Tells every node to refresh an auction after a bid (idempotent, safe to redeliver).
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionPriceBroadcastHandler implements OutboxHandler<AuctionPriceChangedEvent> {
+
+    private final AuctionChangeNotifier notifier;
+
+    @Override
+    public Class<AuctionPriceChangedEvent> eventType() {
+        return AuctionPriceChangedEvent.class;
+    }
+
+    @Override
+    public void handle(AuctionPriceChangedEvent event) {
+        notifier.broadcast(List.of(event.auctionId()), event.updatedAt());
+    }
+}
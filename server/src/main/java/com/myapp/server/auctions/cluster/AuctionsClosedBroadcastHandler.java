@@ -0,0 +1,26 @@
+package com.myapp.server.auctions.cluster;
+
+import com.myapp.server.auctions.event.AuctionsClosedEvent;
+import com.myapp.server.common.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tells every node to drop closed auctions from their listings and caches (idempotent, safe to redeliver).
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionsClosedBroadcastHandler implements OutboxHandler<AuctionsClosedEvent> {
+
+    private final AuctionChangeNotifier notifier;
+
+    @Override
+    public Class<AuctionsClosedEvent> eventType() {
+        return AuctionsClosedEvent.class;
+    }
+
+    @Override
+    public void handle(AuctionsClosedEvent event) {
+        notifier.broadcast(event.auctionIds(), event.closedAt());
+    }
+}
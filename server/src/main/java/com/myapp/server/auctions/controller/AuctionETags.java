@@ -0,0 +1,55 @@
+package com.myapp.server.auctions.controller;
+
+import com.myapp.server.auctions.dto.AuctionListItem;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Strong ETag values for auction resources.
+ */
+final class AuctionETags {
+
+    private AuctionETags() {}
+
+    /**
+     * Detail ETag: auction id plus its updated_at (microsecond precision, as stored).
+     * Non-JSON representations carry their format so validators never cross encodings.
+     */
+    static String forAuction(Long id, OffsetDateTime updatedAt, MediaType format) {
+        Instant instant = updatedAt.toInstant();
+        long micros = instant.getEpochSecond() * 1_000_000L + instant.getNano() / 1_000;
+        String suffix = MediaType.APPLICATION_JSON.equalsTypeAndSubtype(format) ? "" : "-" + format.getSubtype();
+        return "\"" + id + "-" + Long.toString(micros, 36) + suffix + "\"";
+    }
+
+    /**
+     * Listing ETag from the read model's version: known before the listing is built, so a matching
+     * If-None-Match is answered without filtering or paging anything.
+     */
+    static String forListing(String filterKey, String listingVersion) {
+        return "\"" + DigestUtils.md5DigestAsHex(filterKey.getBytes(StandardCharsets.UTF_8)) + "-" + listingVersion + "\"";
+    }
+
+    /**
+     * Listing ETag while the listing comes from the database: hash of the normalized filter plus every field on the page that can change
+     * while an auction is active (price, bid count, end date) and the page totals.
+     */
+    static String forListing(String filterKey, Page<AuctionListItem> page) {
+        StringBuilder sb = new StringBuilder(filterKey)
+            .append('|').append(page.getTotalElements());
+        List<AuctionListItem> items = page.getContent();
+        for (AuctionListItem item : items) {
+            sb.append('|').append(item.id())
+              .append(':').append(item.currentBidAmount() == null ? "" : item.currentBidAmount().toPlainString())
+              .append(':').append(item.bidsCount())
+              .append(':').append(item.endDate() == null ? "" : item.endDate().toInstant().toEpochMilli());
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(sb.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -5,39 +5,50 @@ import com.myapp.server.auctions.dto.AuctionListItem;
 import com.myapp.server.auctions.dto.CreateAuctionRequest;
 import com.myapp.server.auctions.dto.CreateAuctionResponse;
 import com.myapp.server.auctions.dto.UserAuctionItem;
+import com.myapp.server.auctions.dto.UserAuctionPage;
 import com.myapp.server.auctions.service.AuctionService;
-import com.myapp.server.common.auth.JwtTokenExtractor;
+import com.myapp.server.common.auth.CurrentUser;
+import com.myapp.server.common.web.JsonStreamWriter;
+import com.myapp.server.common.web.PageCursor;
+import com.myapp.server.common.web.WireFormats;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.multipart.MultipartFile;
 import jakarta.validation.Valid;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 public class AuctionsController {
 
     private final AuctionService auctionService;
-    private final JwtTokenExtractor jwtTokenExtractor;
+    private final JsonStreamWriter jsonStreamWriter;
+    private final WireFormats wireFormats;
 
-    public AuctionsController(AuctionService auctionService, JwtTokenExtractor jwtTokenExtractor) { 
+    public AuctionsController(AuctionService auctionService,
+                              JsonStreamWriter jsonStreamWriter, WireFormats wireFormats) { 
         this.auctionService = auctionService;
-        this.jwtTokenExtractor = jwtTokenExtractor;
+        this.jsonStreamWriter = jsonStreamWriter;
+        this.wireFormats = wireFormats;
     }
 
     @GetMapping("/api/auctions")
-    public Map<String, Object> listActive(
+    public ResponseEntity<StreamingResponseBody> listActive(
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "20") int size,
         @RequestParam(required = false) String category,
@@ -45,7 +56,9 @@ public class AuctionsController {
         @RequestParam(required = false) BigDecimal maxPrice,
         @RequestParam(required = false, name = "condition") List<String> conditions,
         @RequestParam(required = false) String search,
-        HttpServletRequest request
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+        @CurrentUser(required = false) Long excludeSellerId,
+        WebRequest webRequest
     ) {
         int limit = Math.max(1, Math.min(size, 100));
         int pageNumber = Math.max(0, page);
@@ -60,27 +73,78 @@ public class AuctionsController {
             ? null
             : conditions.stream().filter(s -> s != null && !s.isBlank()).collect(Collectors.toList());
 
-        // Get current user ID to exclude their auctions
-        Long excludeSellerId = jwtTokenExtractor.getCurrentUserId(request);
+        MediaType format = wireFormats.negotiate(accept);
+        // Each representation (and each excluded seller) gets its own validator
+        String filterKey = pageNumber + "|" + limit + "|" + category + "|" + minPrice + "|" + maxPrice + "|" + normalizedConditions
+            + "|" + search + "|" + excludeSellerId + "|" + format.getSubtype();
+        // Answer If-None-Match from the read model's version, before the listing is built
+        String listingVersion = auctionService.findListingVersion();
+        String eTag = listingVersion != null ? AuctionETags.forListing(filterKey, listingVersion) : null;
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null; // 304 - headers already written
+        }
 
         Page<AuctionListItem> auctionsPage =
         auctionService.findActiveAuctions(pageNumber, limit, category, minPrice, maxPrice, normalizedConditions, search, excludeSellerId);
 
-        Map<String, Object> body = new HashMap<>();
-        body.put("page", auctionsPage.getNumber());
-        body.put("size", auctionsPage.getSize());
-        body.put("total", auctionsPage.getTotalElements());
-        body.put("totalPages", auctionsPage.getTotalPages());
-        body.put("items", auctionsPage.getContent());
+        if (eTag == null) {
+            // Served from the database until the read model is loaded: the page itself is the version
+            eTag = AuctionETags.forListing(filterKey, auctionsPage);
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+        }
         
-        return body;
+        // Anonymous listings are identical for everyone, so shared proxies may keep them briefly;
+        // signed-in listings exclude the caller's own auctions and must stay private
+        CacheControl cacheControl = excludeSellerId == null
+            ? CacheControl.maxAge(5, TimeUnit.SECONDS).cachePublic()
+            : CacheControl.noCache().cachePrivate();
+        return ResponseEntity.ok()
+            .eTag(eTag)
+            .cacheControl(cacheControl)
+            .header(HttpHeaders.VARY, HttpHeaders.COOKIE, HttpHeaders.ACCEPT)
+            .contentType(format)
+            .body(writeListing(format, auctionsPage));
+    }
+
+    // Same shape as before ({page, size, total, totalPages, items}), written item by item
+    private StreamingResponseBody writeListing(MediaType format, Page<AuctionListItem> auctionsPage) {
+        return jsonStreamWriter.document(format, gen -> {
+            gen.writeStartObject();
+            gen.writeNumberField("page", auctionsPage.getNumber());
+            gen.writeNumberField("size", auctionsPage.getSize());
+            gen.writeNumberField("total", auctionsPage.getTotalElements());
+            gen.writeNumberField("totalPages", auctionsPage.getTotalPages());
+            gen.writeArrayFieldStart("items");
+            for (AuctionListItem item : auctionsPage.getContent()) {
+                gen.writePOJO(item);
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        });
     }
 
     @GetMapping("/api/auctions/{id}")
-    public ResponseEntity<AuctionDetail> getOne(@PathVariable Long id) {
+    public ResponseEntity<AuctionDetail> getOne(@PathVariable Long id,
+                                                @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                WebRequest webRequest) {
         try {
+            // Answer If-None-Match from the version alone, before any entity is loaded
+            OffsetDateTime version = auctionService.findAuctionVersion(id);
+            String eTag = version != null ? AuctionETags.forAuction(id, version, wireFormats.negotiate(accept)) : null;
+            if (eTag != null && webRequest.checkNotModified(eTag)) {
+                return null; // 304 - headers already written
+            }
+            
             AuctionDetail auctionDetail = auctionService.findAuctionDetailAnyStatus(id);
-            return ResponseEntity.ok(auctionDetail);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+            if (eTag != null) {
+                response.eTag(eTag);
+            }
+            return response.body(auctionDetail);
         } catch (RuntimeException e) {
             return ResponseEntity.notFound().build();
         }
@@ -100,13 +164,8 @@ public class AuctionsController {
             @RequestPart(value = "image_7", required = false) MultipartFile image7,
             @RequestPart(value = "image_8", required = false) MultipartFile image8,
             @RequestPart(value = "image_9", required = false) MultipartFile image9,
-            HttpServletRequest httpRequest) throws Exception {
+            @CurrentUser Long currentUserId) throws Exception {
                 
-        Long currentUserId = jwtTokenExtractor.getCurrentUserId(httpRequest);
-        if (currentUserId == null) {
-            throw new org.springframework.web.server.ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication required");
-        }
-        
         // Parse JSON data
         ObjectMapper mapper = new ObjectMapper();
         mapper.registerModule(new JavaTimeModule());
@@ -121,13 +180,36 @@ public class AuctionsController {
         return auctionService.createAuction(request, currentUserId, images);
     }
 
+    /**
+     * Keyset-paginated, newest first: pass the previous response's X-Next-Cursor header as ?cursor=
+     * for the next page (no header on the last page). Optional ?status=active|sold|unsold.
+     */
     @GetMapping("/api/auctions/my")
-    public ResponseEntity<List<UserAuctionItem>> getCurrentUserAuctions(HttpServletRequest request) {
-        Long currentUserId = jwtTokenExtractor.getCurrentUserId(request);
-        if (currentUserId == null) {
-            throw new org.springframework.web.server.ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication required");
+    public ResponseEntity<List<UserAuctionItem>> getCurrentUserAuctions(@RequestParam(required = false) String status,
+                                                                        @RequestParam(required = false) String cursor,
+                                                                        @RequestParam(defaultValue = "100") int limit,
+                                                                        @CurrentUser Long currentUserId) {
+        UserAuctionPage page = auctionService.getUserAuctions(currentUserId, status, PageCursor.decode(cursor), Math.max(1, Math.min(limit, 100)));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(PageCursor.HEADER, page.nextCursor().encode());
+        }
+        return response.body(page.items());
+    }
+
+    /**
+     * Auctions the caller has bid on, latest end date first; same cursor/status/limit contract as /api/auctions/my.
+     */
+    @GetMapping("/api/auctions/my/bidded")
+    public ResponseEntity<List<UserAuctionItem>> getCurrentUserBiddedAuctions(@RequestParam(required = false) String status,
+                                                                              @RequestParam(required = false) String cursor,
+                                                                              @RequestParam(defaultValue = "100") int limit,
+                                                                              @CurrentUser Long currentUserId) {
+        UserAuctionPage page = auctionService.getAuctionsWithBids(currentUserId, status, PageCursor.decode(cursor), Math.max(1, Math.min(limit, 100)));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(PageCursor.HEADER, page.nextCursor().encode());
         }
-        List<UserAuctionItem> auctions = auctionService.getUserAuctions(currentUserId);
-        return ResponseEntity.ok(auctions);
+        return response.body(page.items());
     }
 }
@@ -0,0 +1,14 @@
+package com.myapp.server.auctions.dto;
+
+import java.util.List;
+
+/**
+ * One page of the active auctions listing.
+ */
+public record AuctionListPage(
+        int page,
+        int size,
+        long total,
+        int totalPages,
+        List<AuctionListItem> items
+) {}
@@ -0,0 +1,14 @@
+package com.myapp.server.auctions.dto;
+
+import com.myapp.server.common.web.PageCursor;
+
+import java.util.List;
+
+/**
+ * One page of a user's auctions (as seller, or as bidder); nextCursor is null on the last page.
+ */
+public record UserAuctionPage(
+    List<UserAuctionItem> items,
+    PageCursor nextCursor
+) {
+}
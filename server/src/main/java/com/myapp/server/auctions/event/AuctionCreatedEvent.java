@@ -0,0 +1,8 @@
+package com.myapp.server.auctions.event;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Published inside the create transaction; listeners should react after commit.
+ */
+public record AuctionCreatedEvent(long auctionId, OffsetDateTime endDate) {}
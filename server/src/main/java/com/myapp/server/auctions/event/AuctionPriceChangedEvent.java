@@ -0,0 +1,18 @@
+package com.myapp.server.auctions.event;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * Published by bid placement with the auction's new public state.
+ * updatedAt is the auction row's updated_at as written by the bid (the version caches and ETags use).
+ * Listeners should react after commit.
+ */
+public record AuctionPriceChangedEvent(
+        long auctionId,
+        BigDecimal currentPrice,
+        int bidsCount,
+        Long highestUserId,
+        OffsetDateTime endDate,
+        OffsetDateTime updatedAt
+) {}
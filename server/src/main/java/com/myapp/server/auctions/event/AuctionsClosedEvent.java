@@ -0,0 +1,11 @@
+package com.myapp.server.auctions.event;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Published by the status updater for auctions it moved out of ACTIVE.
+ * closedAt is the updated_at the close wrote to those rows (the version caches and ETags use).
+ * Listeners should react after commit.
+ */
+public record AuctionsClosedEvent(List<Long> auctionIds, OffsetDateTime closedAt) {}
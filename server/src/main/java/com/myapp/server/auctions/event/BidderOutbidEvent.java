@@ -0,0 +1,14 @@
+package com.myapp.server.auctions.event;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * Written to the outbox by bid placement when a bid takes the lead from another bidder.
+ */
+public record BidderOutbidEvent(
+        long auctionId,
+        long outbidUserId,
+        BigDecimal currentPrice,
+        OffsetDateTime at
+) {}
@@ -0,0 +1,19 @@
+package com.myapp.server.auctions.event;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Published by {@link com.myapp.server.auctions.cluster.AuctionChangeNotifier} for committed auction
+ * writes (create, bid, close) on any node, this one included, shortly after the commit.
+ * version is the updated_at the write committed (null when unknown, e.g. a create): state already at
+ * that version needs no reload. all means notifications may have been missed (the listener
+ * reconnected), so every locally held auction state is suspect and auctionIds is empty.
+ * Delivered on the notifier's thread, outside any transaction.
+ */
+public record RemoteAuctionChangesEvent(List<Long> auctionIds, OffsetDateTime version, boolean all) {
+
+    public static RemoteAuctionChangesEvent everything() {
+        return new RemoteAuctionChangesEvent(List.of(), null, true);
+    }
+}
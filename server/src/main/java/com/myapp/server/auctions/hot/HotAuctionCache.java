@@ -0,0 +1,12 @@
+package com.myapp.server.auctions.hot;
+
+import java.util.Set;
+
+/**
+ * A cache that keeps hot auctions resident. Called by {@link HotAuctionPrewarmer} on every cycle
+ * with the current hot set (to load and pin) and the auctions that just cooled down (to unpin).
+ */
+public interface HotAuctionCache {
+
+    void pinAndWarm(Set<Long> hot, Set<Long> cooled);
+}
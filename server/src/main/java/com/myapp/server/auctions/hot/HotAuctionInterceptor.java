@@ -0,0 +1,41 @@
+package com.myapp.server.auctions.hot;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Feeds the hot-auction tracker from auction-scoped endpoints (detail, page, history, bids)
+ * using the auction id path variable the handler was matched with.
+ */
+@Component
+public class HotAuctionInterceptor implements HandlerInterceptor {
+
+    private final HotAuctionTracker tracker;
+
+    public HotAuctionInterceptor(HotAuctionTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE) instanceof Map<?, ?> variables) {
+            Object id = variables.get("auctionId");
+            if (id == null) {
+                id = variables.get("id");
+            }
+            if (id instanceof String value) {
+                try {
+                    tracker.record(Long.parseLong(value));
+                } catch (NumberFormatException ignored) {
+                    // not an auction id (the handler will reject it)
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,46 @@
+package com.myapp.server.auctions.hot;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Periodically promotes the tracker's top auctions to the hot set and has every
+ * {@link HotAuctionCache} load and pin them, so the busiest auctions are already cached
+ * (and stay cached) through their final minutes rather than being loaded on demand.
+ */
+@Slf4j
+@Component
+public class HotAuctionPrewarmer {
+
+    private final HotAuctionTracker tracker;
+    private final List<HotAuctionCache> caches;
+
+    public HotAuctionPrewarmer(HotAuctionTracker tracker, List<HotAuctionCache> caches) {
+        this.tracker = tracker;
+        this.caches = caches;
+    }
+
+    @Scheduled(fixedDelayString = "${app.auctions.hot.prewarm-ms:5000}")
+    public void prewarm() {
+        Set<Long> previous = tracker.hotIds();
+        Set<Long> hot = tracker.refreshHotSet();
+        if (hot.isEmpty() && previous.isEmpty()) {
+            return;
+        }
+        Set<Long> cooled = new HashSet<>(previous);
+        cooled.removeAll(hot);
+        for (HotAuctionCache cache : caches) {
+            try {
+                cache.pinAndWarm(hot, Set.copyOf(cooled));
+            } catch (DataAccessException e) {
+                log.warn("Hot auction prewarm failed for {}: {}", cache.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+}
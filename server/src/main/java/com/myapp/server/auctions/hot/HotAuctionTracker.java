@@ -0,0 +1,145 @@
+package com.myapp.server.auctions.hot;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Heavy-hitter tracker for auction ids: a count-min sketch (conservative update) estimates
+ * per-auction hits in fixed memory, and a small top-K table keeps the current leaders. Counters are halved every decay window so the
+ * ranking follows recent traffic rather than all-time totals.
+ * The hot set (top-K above a minimum hit count) is re-evaluated by {@link #refreshHotSet()} and read
+ * lock-free by the caches that pin those auctions.
+ */
+@Component
+public class HotAuctionTracker {
+
+    private static final int DEPTH = 4;
+    private static final long[] ROW_SEEDS = {
+        0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    private final int widthMask;
+    private final AtomicLongArray counters;
+    private final int topK;
+    private final long minHits;
+    private final Map<Long, Long> top = new ConcurrentHashMap<>();
+    private volatile long topThreshold = 0;
+    private volatile Set<Long> hotIds = Set.of();
+
+    public record HotAuction(long auctionId, long estimatedHits) {}
+
+    public HotAuctionTracker(MeterRegistry meterRegistry,
+                             @Value("${app.auctions.hot.sketch-width:4096}") int sketchWidth,
+                             @Value("${app.auctions.hot.top-k:20}") int topK,
+                             @Value("${app.auctions.hot.min-hits:100}") long minHits) {
+        int width = Integer.highestOneBit(Math.max(64, sketchWidth));
+        this.widthMask = width - 1;
+        this.counters = new AtomicLongArray(DEPTH * width);
+        this.topK = topK;
+        this.minHits = minHits;
+        Gauge.builder("auctions.hot.size", this, tracker -> tracker.hotIds.size())
+            .description("Auctions currently pinned as hot")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Counts one hit (view, history read or bid) for the auction.
+     */
+    public void record(long auctionId) {
+        int[] slots = new int[DEPTH];
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            slots[row] = index(row, auctionId);
+            min = Math.min(min, counters.get(slots[row]));
+        }
+        // Conservative update: only raise counters to the new estimate, which keeps collisions
+        // from inflating every row (far less overestimation for long-tail ids)
+        long estimate = min + 1;
+        for (int slot : slots) {
+            counters.accumulateAndGet(slot, estimate, Math::max);
+        }
+        long current = estimate;
+        if (top.computeIfPresent(auctionId, (id, hits) -> current) != null) {
+            return;
+        }
+        if (top.size() < topK || estimate > topThreshold) {
+            admit(auctionId, estimate);
+        }
+    }
+
+    public boolean isHot(long auctionId) {
+        return hotIds.contains(auctionId);
+    }
+
+    public Set<Long> hotIds() {
+        return hotIds;
+    }
+
+    /**
+     * Current top-K, highest first.
+     */
+    public List<HotAuction> topAuctions() {
+        return top.entrySet().stream()
+            .map(e -> new HotAuction(e.getKey(), e.getValue()))
+            .sorted(Comparator.comparingLong(HotAuction::estimatedHits).reversed())
+            .toList();
+    }
+
+    /**
+     * Recomputes the hot set from the top-K table and returns it.
+     */
+    public Set<Long> refreshHotSet() {
+        Set<Long> refreshed = Set.copyOf(top.entrySet().stream()
+            .filter(e -> e.getValue() >= minHits)
+            .map(Map.Entry::getKey)
+            .toList());
+        hotIds = refreshed;
+        return refreshed;
+    }
+
+    /**
+     * Ages all counts so auctions that stopped getting traffic fall out of the top-K.
+     */
+    @Scheduled(fixedDelayString = "${app.auctions.hot.decay-ms:60000}")
+    public void decay() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.updateAndGet(i, value -> value >>> 1);
+        }
+        synchronized (top) {
+            top.replaceAll((id, hits) -> hits >>> 1);
+            top.values().removeIf(hits -> hits == 0);
+            topThreshold = top.size() < topK ? 0 : top.values().stream().mapToLong(Long::longValue).min().orElse(0);
+        }
+    }
+
+    private void admit(long auctionId, long estimate) {
+        synchronized (top) {
+            top.put(auctionId, estimate);
+            if (top.size() > topK) {
+                top.entrySet().stream()
+                    .min(Map.Entry.comparingByValue())
+                    .ifPresent(min -> top.remove(min.getKey()));
+            }
+            topThreshold = top.size() < topK ? 0 : top.values().stream().mapToLong(Long::longValue).min().orElse(0);
+        }
+    }
+
+    private int index(int row, long auctionId) {
+        // splitmix64 finalizer over the id mixed with a per-row seed
+        long h = auctionId ^ ROW_SEEDS[row];
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        h = h ^ (h >>> 31);
+        return row * (widthMask + 1) + (int) (h & widthMask);
+    }
+}
@@ -0,0 +1,30 @@
+package com.myapp.server.auctions.hot;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Operator view of the tracker: {@code GET /actuator/hotauctions}.
+ */
+@Component
+@Endpoint(id = "hotauctions")
+public class HotAuctionsEndpoint {
+
+    private final HotAuctionTracker tracker;
+
+    public HotAuctionsEndpoint(HotAuctionTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    @ReadOperation
+    public Map<String, Object> hotAuctions() {
+        List<HotAuctionTracker.HotAuction> top = tracker.topAuctions();
+        Set<Long> pinned = tracker.hotIds();
+        return Map.of("top", top, "pinned", pinned);
+    }
+}
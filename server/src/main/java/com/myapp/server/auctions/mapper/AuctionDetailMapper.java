@@ -2,9 +2,9 @@ package com.myapp.server.auctions.mapper;
 
 import com.myapp.server.auctions.dto.AuctionDetail;
 import com.myapp.server.auctions.entity.Auction;
+import com.myapp.server.auctions.entity.enums.AuctionStatus;
+import com.myapp.server.auctions.repository.AuctionListRow;
 import com.myapp.server.auctions.repository.AuctionRepository;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -16,17 +16,17 @@ import java.util.List;
 @Component
 public class AuctionDetailMapper {
     
-    private final ObjectMapper objectMapper;
+    private final ImageUrlsCache imageUrlsCache;
     
-    public AuctionDetailMapper(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+    public AuctionDetailMapper(ImageUrlsCache imageUrlsCache) {
+        this.imageUrlsCache = imageUrlsCache;
     }
     
     /**
      * Maps Entity to AuctionDetail DTO with computed minBidToPlace (pure field mapping).
      */
     public AuctionDetail toAuctionDetail(Auction auction, BigDecimal minBidToPlace) {
-        List<String> imageUrls = parseImageUrls(auction.getImageUrls());
+        List<String> imageUrls = imageUrlsCache.get(auction.getId(), auction.getUpdatedAt(), auction.getImageUrls());
         
         return new AuctionDetail(
             auction.getId(),
@@ -49,7 +49,7 @@ public class AuctionDetailMapper {
      * Maps Projection to AuctionDetail DTO (pure field mapping).
      */
     public AuctionDetail toAuctionDetail(AuctionRepository.AuctionProjection projection) {
-        List<String> imageUrls = parseImageUrls(projection.getImageUrls());
+        List<String> imageUrls = imageUrlsCache.get(projection.getId(), projection.getUpdatedAt(), projection.getImageUrls());
         
         return new AuctionDetail(
             projection.getId(),
@@ -68,18 +68,31 @@ public class AuctionDetailMapper {
         );
     }
     
+    /**
+     * Maps an active auction's listing row to AuctionDetail DTO, in the same shape as the projection mapping.
+     */
+    public AuctionDetail toAuctionDetail(AuctionListRow row) {
+        return new AuctionDetail(
+            row.id(),
+            row.title(),
+            row.description(),
+            row.condition().name(),
+            row.minPrice(),
+            row.bidIncrement(),
+            row.currentBidAmount() != null ? row.currentBidAmount() : row.minPrice(),
+            row.bidsCount(),
+            row.currentBidAmount() != null ? row.currentBidAmount().add(row.bidIncrement()) : row.minPrice(),
+            row.endDate(),
+            imageUrlsCache.get(row.id(), row.updatedAt(), row.imageUrls()),
+            row.sellerId(),
+            AuctionStatus.ACTIVE.name()
+        );
+    }
+    
     /**
      * Parses JSON string to image URLs list (pure utility).
      */
     public List<String> parseImageUrls(String imageUrlsJson) {
-        if (imageUrlsJson == null || imageUrlsJson.equals("[]")) {
-            return List.of();
-        }
-        
-        try {
-            return objectMapper.readValue(imageUrlsJson, new TypeReference<List<String>>() {});
-        } catch (Exception e) {
-            return List.of();
-        }
+        return imageUrlsCache.parse(imageUrlsJson);
     }
 }
@@ -2,9 +2,7 @@ package com.myapp.server.auctions.mapper;
 
 import com.myapp.server.auctions.dto.AuctionListItem;
 import com.myapp.server.auctions.entity.Auction;
-import com.myapp.server.auctions.repository.AuctionRepository;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myapp.server.auctions.repository.AuctionListRow;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
@@ -16,10 +14,10 @@ import java.util.List;
 @Component
 public class AuctionListMapper {
     
-    private final ObjectMapper objectMapper;
+    private final ImageUrlsCache imageUrlsCache;
     
-    public AuctionListMapper(ObjectMapper objectMapper) {
-        this.objectMapper = objectMapper;
+    public AuctionListMapper(ImageUrlsCache imageUrlsCache) {
+        this.imageUrlsCache = imageUrlsCache;
     }
     
     /**
@@ -27,7 +25,7 @@ public class AuctionListMapper {
      * Computes minBidToPlace using simple logic.
      */
     public AuctionListItem toAuctionListItem(Auction auction) {
-        List<String> imageUrls = parseImageUrls(auction.getImageUrls());
+        List<String> imageUrls = imageUrlsCache.get(auction.getId(), auction.getUpdatedAt(), auction.getImageUrls());
         
         // Simple minBidToPlace calculation
         BigDecimal minBidToPlace = auction.getCurrentBidAmount() != null 
@@ -50,18 +48,34 @@ public class AuctionListMapper {
         );
     }
 
+    /**
+     * Maps a projected listing row to AuctionListItem DTO (pure field mapping).
+     */
+    public AuctionListItem toAuctionListItem(AuctionListRow row) {
+        BigDecimal minBidToPlace = row.currentBidAmount() != null
+            ? row.currentBidAmount().add(row.bidIncrement())
+            : row.minPrice();
+
+        return new AuctionListItem(
+            row.id(),
+            row.title(),
+            row.description(),
+            row.condition().getValue(),
+            row.categories(),
+            row.minPrice(),
+            row.bidIncrement(),
+            row.currentBidAmount() != null ? row.currentBidAmount() : row.minPrice(),
+            row.bidsCount(),
+            minBidToPlace,
+            row.endDate(),
+            imageUrlsCache.get(row.id(), row.updatedAt(), row.imageUrls())
+        );
+    }
+
     /**
      * Parses JSON string to image URLs list (pure utility).
      */
     public List<String> parseImageUrls(String imageUrlsJson) {
-        if (imageUrlsJson == null || imageUrlsJson.equals("[]")) {
-            return List.of();
-        }
-        
-        try {
-            return objectMapper.readValue(imageUrlsJson, new TypeReference<List<String>>() {});
-        } catch (Exception e) {
-            return List.of();
-        }
+        return imageUrlsCache.parse(imageUrlsJson);
     }
 }
@@ -0,0 +1,60 @@
+package com.myapp.server.auctions.mapper;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Bounded memo of parsed image_urls JSON, keyed by auction id and updated_at.
+ * Any write to an auction bumps updated_at, so a stale entry can never be served -
+ * it simply stops being hit and ages out of the cache.
+ */
+@Component
+public class ImageUrlsCache {
+
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Key, List<String>> cache;
+
+    public ImageUrlsCache(ObjectMapper objectMapper,
+                          @Value("${app.auctions.image-urls-cache.max-size:10000}") long maxSize) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .build();
+    }
+
+    /**
+     * Returns the immutable image URL list for an auction version, parsing the JSON only on first use.
+     */
+    public List<String> get(Long auctionId, OffsetDateTime updatedAt, String imageUrlsJson) {
+        if (auctionId == null || updatedAt == null) {
+            return parse(imageUrlsJson);
+        }
+        return cache.get(new Key(auctionId, updatedAt), k -> parse(imageUrlsJson));
+    }
+
+    /**
+     * Parses JSON string to an immutable image URLs list (no caching).
+     */
+    public List<String> parse(String imageUrlsJson) {
+        if (imageUrlsJson == null || imageUrlsJson.equals("[]")) {
+            return List.of();
+        }
+
+        try {
+            return List.copyOf(objectMapper.readValue(imageUrlsJson, STRING_LIST));
+        } catch (Exception e) {
+            return List.of();
+        }
+    }
+
+    private record Key(Long auctionId, OffsetDateTime updatedAt) {}
+}
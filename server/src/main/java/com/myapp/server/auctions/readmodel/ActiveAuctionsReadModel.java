@@ -0,0 +1,318 @@
+package com.myapp.server.auctions.readmodel;
+
+import com.myapp.server.auctions.dto.AuctionDetail;
+import com.myapp.server.auctions.dto.AuctionListItem;
+import com.myapp.server.auctions.entity.enums.AuctionCondition;
+import com.myapp.server.auctions.event.AuctionCreatedEvent;
+import com.myapp.server.auctions.event.AuctionPriceChangedEvent;
+import com.myapp.server.auctions.event.AuctionsClosedEvent;
+import com.myapp.server.auctions.event.RemoteAuctionChangesEvent;
+import com.myapp.server.auctions.mapper.AuctionDetailMapper;
+import com.myapp.server.auctions.mapper.AuctionListMapper;
+import com.myapp.server.auctions.repository.AuctionListRow;
+import com.myapp.server.auctions.repository.AuctionRepository;
+import com.myapp.server.auctions.service.policy.AuctionValidationPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * In-memory read model holding every ACTIVE auction as an immutable AuctionListRow.
+ * Bootstrapped when the application is ready, kept current by after-commit events from the
+ * auction, bid and status writers, by reloading the rows the cluster reports as changed
+ * ({@link RemoteAuctionChangesEvent}), and periodically reconciled with the database in case a
+ * notification was missed. Events that arrive while a reload runs are
+ * tracked by sequence number and win over the reloaded snapshot (a closed auction stays removed, a
+ * new or re-priced one keeps its in-memory row), so a reload never resurrects or drops them.
+ * Until the first load succeeds isReady() is false and callers must use the database path.
+ */
+@Slf4j
+@Component
+public class ActiveAuctionsReadModel {
+
+    private static final Comparator<AuctionListRow> LISTING_ORDER =
+        Comparator.comparing(AuctionListRow::endDate).thenComparing(AuctionListRow::id);
+
+    private final AuctionRepository auctionRepository;
+    private final AuctionListMapper auctionListMapper;
+    private final AuctionDetailMapper auctionDetailMapper;
+    private final AuctionValidationPolicy validationPolicy;
+
+    private final Map<Long, AuctionListRow> auctions = new ConcurrentHashMap<>();
+    // Bumped on every change; with instanceId it versions the listing for ETags
+    private final AtomicLong version = new AtomicLong();
+    // Counters of different nodes (or of a restarted node) must never produce the same token
+    private final String instanceId = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    // Bumped only when the listing order can change (an auction added or removed, an end date moved);
+    // the sorted id snapshot is rebuilt lazily when it falls behind, so a bid never triggers a re-sort
+    private final AtomicLong orderVersion = new AtomicLong();
+    private volatile SortedSnapshot sortedSnapshot = new SortedSnapshot(-1, List.of());
+    // Last event per auction since the previous load, so a load can tell which rows of its snapshot are stale
+    private final Map<Long, Change> changes = new HashMap<>();
+    private final AtomicLong changeSequence = new AtomicLong();
+    private final Object refreshLock = new Object();
+    private volatile boolean ready;
+
+    public ActiveAuctionsReadModel(AuctionRepository auctionRepository,
+                                   AuctionListMapper auctionListMapper,
+                                   AuctionDetailMapper auctionDetailMapper,
+                                   AuctionValidationPolicy validationPolicy) {
+        this.auctionRepository = auctionRepository;
+        this.auctionListMapper = auctionListMapper;
+        this.auctionDetailMapper = auctionDetailMapper;
+        this.validationPolicy = validationPolicy;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Token that changes whenever any held row changes, for listing ETags; null until ready.
+     * Read it before the listing: a change in between only makes the next revalidation miss.
+     */
+    public String listingVersion() {
+        return ready ? instanceId + "-" + version.get() : null;
+    }
+
+    // === Bootstrap and reconciliation ===
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void bootstrap() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${app.auctions.read-model.refresh-ms:30000}",
+               initialDelayString = "${app.auctions.read-model.refresh-ms:30000}")
+    public void refresh() {
+        synchronized (refreshLock) {
+            long loadStartedAt = changeSequence.get();
+            List<AuctionListRow> rows;
+            try {
+                rows = auctionRepository.findAllActiveAuctionRows();
+            } catch (DataAccessException e) {
+                log.warn("Active auctions read model could not load; serving reads from the database: {}", e.getMessage());
+                return;
+            }
+
+            Map<Long, AuctionListRow> loaded = new HashMap<>();
+            rows.forEach(row -> loaded.put(row.id(), row));
+            synchronized (changes) {
+                // Events seen while the load ran are newer than the snapshot: a close keeps the auction
+                // out, a create or bid keeps the in-memory row (the snapshot may predate or miss it)
+                changes.forEach((id, change) -> {
+                    if (change.sequence() <= loadStartedAt) {
+                        return;
+                    }
+                    if (change.removed()) {
+                        loaded.remove(id);
+                    } else {
+                        AuctionListRow current = auctions.get(id);
+                        if (current != null) {
+                            loaded.put(id, current);
+                        }
+                    }
+                });
+                auctions.keySet().retainAll(loaded.keySet());
+                auctions.putAll(loaded);
+                // The next load starts after this point, so nothing recorded so far can matter to it
+                changes.clear();
+                version.incrementAndGet();
+                orderVersion.incrementAndGet();
+            }
+            ready = true;
+        }
+    }
+
+    // === Event-driven updates (after commit) ===
+
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onAuctionCreated(AuctionCreatedEvent event) {
+        AuctionListRow row = auctionRepository.findActiveAuctionRowById(event.auctionId());
+        if (row != null) {
+            synchronized (changes) {
+                auctions.put(row.id(), row);
+                record(row.id(), false, true);
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPriceChanged(AuctionPriceChangedEvent event) {
+        synchronized (changes) {
+            AuctionListRow before = auctions.get(event.auctionId());
+            AuctionListRow updated = auctions.computeIfPresent(event.auctionId(), (id, row) -> new AuctionListRow(
+                row.id(),
+                row.title(),
+                row.description(),
+                row.condition(),
+                row.categories(),
+                row.imageUrls(),
+                row.minPrice(),
+                row.bidIncrement(),
+                event.currentPrice(),
+                event.bidsCount(),
+                event.endDate() != null ? event.endDate() : row.endDate(),
+                row.sellerId(),
+                row.createdAt(),
+                event.updatedAt() != null ? event.updatedAt() : row.updatedAt()
+            ));
+            if (updated != null) {
+                record(event.auctionId(), false, !Objects.equals(before.endDate(), updated.endDate()));
+            }
+        }
+    }
+
+    @TransactionalEventListener
+    public void onAuctionsClosed(AuctionsClosedEvent event) {
+        synchronized (changes) {
+            event.auctionIds().forEach(id -> {
+                auctions.remove(id);
+                record(id, true, true);
+            });
+        }
+    }
+
+    /**
+     * Changed rows are re-read from the database, unless the row held is already at the broadcast
+     * version (this node's own write, applied by the listeners above). A row older than the one
+     * already held (a local bid applied after the remote write) is not put back.
+     */
+    @EventListener
+    public void onRemoteChanges(RemoteAuctionChangesEvent event) {
+        if (event.all()) {
+            refresh();
+            return;
+        }
+        for (Long id : event.auctionIds()) {
+            AuctionListRow held = auctions.get(id);
+            if (held != null && held.updatedAt() != null && event.version() != null
+                    && !held.updatedAt().isBefore(event.version())) {
+                continue;
+            }
+            AuctionListRow row;
+            try {
+                row = auctionRepository.findActiveAuctionRowById(id);
+            } catch (DataAccessException e) {
+                log.warn("Could not reload auction {} after a remote change: {}", id, e.getMessage());
+                continue;
+            }
+            synchronized (changes) {
+                if (row == null) {
+                    auctions.remove(id);
+                    record(id, true, true);
+                    continue;
+                }
+                AuctionListRow current = auctions.get(id);
+                boolean reordered = false;
+                if (current == null || current.updatedAt() == null || row.updatedAt() == null
+                        || !current.updatedAt().isAfter(row.updatedAt())) {
+                    auctions.put(id, row);
+                    reordered = current == null || !Objects.equals(current.endDate(), row.endDate());
+                }
+                record(id, false, reordered);
+            }
+        }
+    }
+
+    // Caller holds the changes monitor
+    private void record(long auctionId, boolean removed, boolean reordered) {
+        changes.put(auctionId, new Change(changeSequence.incrementAndGet(), removed));
+        version.incrementAndGet();
+        if (reordered) {
+            orderVersion.incrementAndGet();
+        }
+    }
+
+    // === Reads ===
+
+    /**
+     * Same filtering, ordering and paging as the database listing query.
+     */
+    public Page<AuctionListItem> findActiveAuctions(int page, int size, String category, BigDecimal minPrice, BigDecimal maxPrice,
+                                                    List<String> conditions, String searchText, Long excludeSellerId) {
+        List<AuctionCondition> parsedConditions = validationPolicy.validateAndParseConditions(conditions);
+        String search = validationPolicy.validateSearchText(searchText);
+
+        Predicate<AuctionListRow> filter = row -> true;
+        if (category != null) filter = filter.and(row -> row.categories() != null && row.categories().contains(category));
+        if (minPrice != null) filter = filter.and(row -> publicPrice(row).compareTo(minPrice) >= 0);
+        if (maxPrice != null) filter = filter.and(row -> publicPrice(row).compareTo(maxPrice) <= 0);
+        if (parsedConditions != null) filter = filter.and(row -> parsedConditions.contains(row.condition()));
+        if (excludeSellerId != null) filter = filter.and(row -> !excludeSellerId.equals(row.sellerId()));
+        // Literal substring match; the SQL path escapes % and _ in its LIKE patterns to match
+        if (search != null) filter = filter.and(row -> row.title().contains(search)
+            || (row.description() != null && row.description().contains(search)));
+
+        // Rows are looked up by id so a snapshot sorted before a bid still shows the current price
+        List<AuctionListRow> matching = snapshot().stream()
+            .map(auctions::get)
+            .filter(Objects::nonNull)
+            .filter(filter)
+            .toList();
+        PageRequest pageable = PageRequest.of(page, size);
+        int from = (int) Math.min(pageable.getOffset(), matching.size());
+        int to = Math.min(from + size, matching.size());
+        List<AuctionListItem> items = matching.subList(from, to).stream()
+            .map(auctionListMapper::toAuctionListItem)
+            .toList();
+        return new PageImpl<>(items, pageable, matching.size());
+    }
+
+    /**
+     * Detail for an active auction; empty if the auction is not active (or not loaded).
+     */
+    public Optional<AuctionDetail> findAuctionDetail(Long id) {
+        AuctionListRow row = auctions.get(id);
+        return row == null ? Optional.empty() : Optional.of(auctionDetailMapper.toAuctionDetail(row));
+    }
+
+    /**
+     * Version (updated_at) of an active auction; empty if the auction is not active (or not loaded).
+     */
+    public Optional<OffsetDateTime> findVersion(Long id) {
+        AuctionListRow row = auctions.get(id);
+        return row == null ? Optional.empty() : Optional.ofNullable(row.updatedAt());
+    }
+
+    private List<Long> snapshot() {
+        SortedSnapshot snapshot = sortedSnapshot;
+        long current = orderVersion.get();
+        if (snapshot.orderVersion() != current) {
+            snapshot = new SortedSnapshot(current, auctions.values().stream().sorted(LISTING_ORDER).map(AuctionListRow::id).toList());
+            sortedSnapshot = snapshot;
+        }
+        return snapshot.ids();
+    }
+
+    private BigDecimal publicPrice(AuctionListRow row) {
+        return row.currentBidAmount() != null ? row.currentBidAmount() : row.minPrice();
+    }
+
+    private record SortedSnapshot(long orderVersion, List<Long> ids) {}
+
+    private record Change(long sequence, boolean removed) {}
+}
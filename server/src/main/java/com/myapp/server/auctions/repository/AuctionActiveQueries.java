@@ -25,4 +25,28 @@ public interface AuctionActiveQueries {
         String searchText,
         Long excludeSellerId
     );
+
+    /**
+     * Same filtering as findActiveAuctionsDomain, but returns listing rows projected
+     * directly from the query instead of managed entities.
+     */
+    Page<AuctionListRow> findActiveAuctionRows(
+        Pageable pageable,
+        String category,
+        BigDecimal minPrice,
+        BigDecimal maxPrice,
+        List<AuctionCondition> conditions,
+        String searchText,
+        Long excludeSellerId
+    );
+
+    /**
+     * All active auctions as listing rows (read model bootstrap).
+     */
+    List<AuctionListRow> findAllActiveAuctionRows();
+
+    /**
+     * Single active auction as a listing row, or null if missing or no longer active.
+     */
+    AuctionListRow findActiveAuctionRowById(Long id);
 }
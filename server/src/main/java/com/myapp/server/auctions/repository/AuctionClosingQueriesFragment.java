@@ -0,0 +1,16 @@
+package com.myapp.server.auctions.repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Repository fragment for set-based closing of expired auctions.
+ */
+public interface AuctionClosingQueriesFragment {
+
+    /**
+     * Closes up to {@code limit} active auctions whose end date has passed, skipping rows locked by
+     * concurrent bids or closers, and returns the closed ids. Must run inside a transaction.
+     */
+    List<Long> closeExpiredChunk(OffsetDateTime now, int limit);
+}
@@ -19,4 +19,9 @@ public interface AuctionDetailQueriesFragment {
      * Find auction detail by ID any status
      */
     AuctionRepository.AuctionProjection findAuctionDetailByIdAnyStatus(Long id);
+
+    /**
+     * Lightweight version lookup (updated_at only, no entity load); null if the auction doesn't exist.
+     */
+    java.time.OffsetDateTime findUpdatedAtById(Long id);
 }
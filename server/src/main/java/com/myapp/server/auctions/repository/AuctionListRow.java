@@ -0,0 +1,28 @@
+package com.myapp.server.auctions.repository;
+
+import com.myapp.server.auctions.entity.enums.AuctionCondition;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * Read-only row for the active auctions listing (also the record type held by the active auctions read model).
+ * Instantiated directly by a JPQL constructor expression, so list queries never
+ * hydrate managed Auction entities (no persistence-context snapshot, no dirty checking).
+ */
+public record AuctionListRow(
+        Long id,
+        String title,
+        String description,
+        AuctionCondition condition,
+        String categories,
+        String imageUrls,
+        BigDecimal minPrice,
+        BigDecimal bidIncrement,
+        BigDecimal currentBidAmount,
+        Integer bidsCount,
+        OffsetDateTime endDate,
+        Long sellerId,
+        OffsetDateTime createdAt,
+        OffsetDateTime updatedAt
+) {}
@@ -5,6 +5,9 @@ import com.myapp.server.auctions.entity.enums.AuctionStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -14,23 +17,31 @@ import java.time.OffsetDateTime;
 public interface AuctionRepository extends JpaRepository<Auction, Long>, 
                                           AuctionActiveQueries,
                                           AuctionDetailQueriesFragment,
-                                          AuctionUserQueries {
-     /**
-     * מוצא מכרזים לפי סטטוס ותאריך סיום
+                                          AuctionUserQueries,
+                                          AuctionClosingQueriesFragment {
+    /**
+     * מזהה ותאריך סיום של מכרזים שמסתיימים עד {@code before} ושייכים לשארד של הצומת (לתזמון סגירה) - ללא טעינת ישויות
+     */
+    @Query("SELECT a.id AS id, a.endDate AS endDate FROM Auction a "
+        + "WHERE a.status = :status AND a.endDate <= :before AND MOD(a.id, :shards) = :shard")
+    List<AuctionEndDate> findEndDatesForShard(@Param("status") AuctionStatus status, @Param("before") OffsetDateTime before,
+                                              @Param("shards") int shards, @Param("shard") int shard);
+
+    /**
+     * סוגר מכרז בודד אם הוא עדיין פעיל ותאריך הסיום עבר; מחזיר 1 אם נסגר
      */
-    List<Auction> findByStatusAndEndDateBefore(AuctionStatus status, OffsetDateTime endDate);
+    @Modifying
+    @Query("UPDATE Auction a SET a.status = CASE WHEN a.bidsCount > 0 THEN :sold ELSE :unsold END, a.updatedAt = :now "
+        + "WHERE a.id = :id AND a.status = :active AND a.endDate <= :now")
+    int closeIfDue(@Param("id") Long id, @Param("now") OffsetDateTime now,
+                   @Param("active") AuctionStatus active, @Param("sold") AuctionStatus sold, @Param("unsold") AuctionStatus unsold);
 
     /**
-     * Projection interface for user auction items
+     * Projection of an auction's scheduled end
      */
-    interface UserAuctionProjection {
+    interface AuctionEndDate {
         Long getId();
-        String getTitle();
-        AuctionStatus getAuctionStatus();
-        Integer getBidsCount();
-        java.time.OffsetDateTime getEndDate();
-        java.math.BigDecimal getCurrentPrice();
-        java.math.BigDecimal getMinPrice();
+        OffsetDateTime getEndDate();
     }
 
     /**
@@ -51,5 +62,6 @@ public interface AuctionRepository extends JpaRepository<Auction, Long>,
         String getImageUrls();
         Long getSellerId();
         String getStatus();
+        java.time.OffsetDateTime getUpdatedAt();
     }
 }
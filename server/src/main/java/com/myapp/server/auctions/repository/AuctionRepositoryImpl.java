@@ -5,30 +5,70 @@ import com.myapp.server.auctions.entity.enums.AuctionCondition;
 import com.myapp.server.auctions.entity.enums.AuctionStatus;
 import com.myapp.server.auctions.repository.impl.ActiveAuctionsPaging;
 import com.myapp.server.auctions.repository.impl.ActiveAuctionsSearchQueries;
+import com.myapp.server.auctions.repository.impl.AuctionClosingQueries;
 import com.myapp.server.auctions.repository.impl.AuctionDetailQueries;
 import com.myapp.server.auctions.repository.impl.UserAuctionsQueries;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Supplier;
 
 /**
  * Pure delegator for auction repository operations.
  */
 @Repository
-@RequiredArgsConstructor
 public class AuctionRepositoryImpl implements AuctionActiveQueries, 
                                             AuctionDetailQueriesFragment, 
-                                            AuctionUserQueries {
+                                            AuctionUserQueries,
+                                            AuctionClosingQueriesFragment {
 
     private final ActiveAuctionsSearchQueries searchQueries;
     private final ActiveAuctionsPaging pagingHelper;
     private final AuctionDetailQueries auctionDetailQueries;
     private final UserAuctionsQueries userAuctionsQueries;
+    private final AuctionClosingQueries auctionClosingQueries;
+    private final ExecutorService queryExecutor;
+    private final TransactionTemplate countTransaction;
+    private final Semaphore parallelCountPermits;
+    private final long countTimeoutMs;
+
+    public AuctionRepositoryImpl(ActiveAuctionsSearchQueries searchQueries,
+                                 ActiveAuctionsPaging pagingHelper,
+                                 AuctionDetailQueries auctionDetailQueries,
+                                 UserAuctionsQueries userAuctionsQueries,
+                                 AuctionClosingQueries auctionClosingQueries,
+                                 @Qualifier("queryExecutor") ExecutorService queryExecutor,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${app.auctions.search.parallel-count.max-concurrency:4}") int maxParallelCounts,
+                                 @Value("${app.auctions.search.parallel-count.timeout-ms:5000}") long countTimeoutMs) {
+        this.searchQueries = searchQueries;
+        this.pagingHelper = pagingHelper;
+        this.auctionDetailQueries = auctionDetailQueries;
+        this.userAuctionsQueries = userAuctionsQueries;
+        this.auctionClosingQueries = auctionClosingQueries;
+        this.queryExecutor = queryExecutor;
+        this.countTransaction = new TransactionTemplate(transactionManager);
+        this.countTransaction.setReadOnly(true);
+        // Transaction timeout is applied to the JPA count query, so Postgres cancels it too
+        this.countTransaction.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(countTimeoutMs)));
+        this.parallelCountPermits = new Semaphore(maxParallelCounts);
+        this.countTimeoutMs = countTimeoutMs;
+    }
     
     // === Domain methods (return entities without DTO mapping) ===
     
@@ -57,6 +97,38 @@ public class AuctionRepositoryImpl implements AuctionActiveQueries,
         
         return executeSearchWithoutMapping(searchFunction, countFunction, pageable);
 }
+
+    @Override
+    public Page<AuctionListRow> findActiveAuctionRows(Pageable pageable, String category,
+        BigDecimal minPrice, BigDecimal maxPrice, List<AuctionCondition> conditions,
+        String searchText, Long excludeSellerId) {
+
+        boolean hasSearchText = searchText != null && !searchText.trim().isEmpty();
+        String searchPattern = hasSearchText ? searchText : null;
+        int offset = pagingHelper.getOffset(pageable);
+        int pageSize = pagingHelper.getPageSize(pageable);
+
+        Supplier<List<AuctionListRow>> searchFunction = () -> searchQueries.findActiveAuctionRowsExcludeSeller(
+            category, minPrice, maxPrice, conditions, excludeSellerId, searchPattern, offset, pageSize);
+
+        Supplier<Long> countFunction = hasSearchText
+            ? () -> searchQueries.countActiveAuctionsFilteredWithSearchExcludeSeller(
+                category, minPrice, maxPrice, conditions, excludeSellerId, searchText)
+            : () -> searchQueries.countActiveAuctionsFilteredNoSearchExcludeSeller(
+                category, minPrice, maxPrice, conditions, excludeSellerId);
+
+        return executeSearchWithoutMapping(searchFunction, countFunction, pageable);
+    }
+    
+    @Override
+    public List<AuctionListRow> findAllActiveAuctionRows() {
+        return searchQueries.findAllActiveRows();
+    }
+
+    @Override
+    public AuctionListRow findActiveAuctionRowById(Long id) {
+        return searchQueries.findActiveRowById(id);
+    }
     
     // === Domain methods for user queries ===
     
@@ -66,8 +138,9 @@ public class AuctionRepositoryImpl implements AuctionActiveQueries,
     }
 
     @Override
-    public List<Auction> findAuctionsWithBidsByUserIdDomain(Long userId) {
-        return userAuctionsQueries.findAuctionsWithBidsByUserIdDomain(userId);
+    public List<UserAuctionRow> findAuctionsWithBidsByUserIdDomain(Long userId, AuctionStatus status,
+                                                                   OffsetDateTime afterEndDate, Long afterId, int limit) {
+        return userAuctionsQueries.findAuctionsWithBidsByUserIdDomain(userId, status, afterEndDate, afterId, limit);
     }
 
     @Override
@@ -86,8 +159,19 @@ public class AuctionRepositoryImpl implements AuctionActiveQueries,
     }
     
     @Override
-    public List<AuctionRepository.UserAuctionProjection> findBySellerIdOrderByCreatedAtDesc(Long sellerId) {
-        return userAuctionsQueries.findBySellerIdOrderByCreatedAtDesc(sellerId);
+    public java.time.OffsetDateTime findUpdatedAtById(Long id) {
+        return auctionDetailQueries.findUpdatedAtById(id);
+    }
+    
+    @Override
+    public List<Long> closeExpiredChunk(OffsetDateTime now, int limit) {
+        return auctionClosingQueries.closeExpiredChunk(now, limit);
+    }
+    
+    @Override
+    public List<UserAuctionRow> findSellerAuctionsPage(Long sellerId, AuctionStatus status,
+                                                       OffsetDateTime afterCreatedAt, Long afterId, int limit) {
+        return userAuctionsQueries.findSellerAuctionsPage(sellerId, status, afterCreatedAt, afterId, limit);
     }
     
     private Page<AuctionRepository.AuctionProjection> executeSearchWithProjection(Supplier<List<Auction>> searchFunction, Supplier<Long> countFunction, Pageable pageable) {
@@ -97,8 +181,46 @@ public class AuctionRepositoryImpl implements AuctionActiveQueries,
     /**
      * Execute search returning domain entities without DTO mapping.
      * Used by Domain methods to avoid coupling with Mapper layer.
+     * The count runs on a virtual thread in its own read-only transaction (separate pooled connection)
+     * while the page query runs in the caller's transaction. Parallel counts are capped so a burst of
+     * listings can't hold every pool connection while waiting for a second one; past the cap the count
+     * runs inline as before.
      */
-    private Page<Auction> executeSearchWithoutMapping(Supplier<List<Auction>> searchFunction, Supplier<Long> countFunction, Pageable pageable) {
-        return pagingHelper.createEntityPage(searchFunction.get(), pageable, countFunction.get());
+    private <T> Page<T> executeSearchWithoutMapping(Supplier<List<T>> searchFunction, Supplier<Long> countFunction, Pageable pageable) {
+        if (!parallelCountPermits.tryAcquire()) {
+            return pagingHelper.createPage(searchFunction.get(), pageable, countFunction.get());
+        }
+
+        Future<Long> count;
+        try {
+            count = queryExecutor.submit(() -> countTransaction.execute(status -> countFunction.get()));
+        } catch (RuntimeException e) {
+            parallelCountPermits.release();
+            throw e;
+        }
+
+        try {
+            List<T> rows = searchFunction.get();
+            return pagingHelper.createPage(rows, pageable, awaitCount(count));
+        } finally {
+            count.cancel(true); // no-op when already done; stops the count if the page query failed
+            parallelCountPermits.release();
+        }
+    }
+
+    private long awaitCount(Future<Long> count) {
+        try {
+            return count.get(countTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new QueryTimeoutException("Active auctions count timed out after " + countTimeoutMs + " ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryTimeoutException("Interrupted while waiting for active auctions count", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
     }
 }
@@ -1,7 +1,9 @@
 package com.myapp.server.auctions.repository;
 
 import com.myapp.server.auctions.entity.Auction;
+import com.myapp.server.auctions.entity.enums.AuctionStatus;
 
+import java.time.OffsetDateTime;
 import java.util.List;
 
 /**
@@ -17,12 +19,16 @@ public interface AuctionUserQueries {
     List<Auction> findBySellerIdDomain(Long sellerId);
 
     /**
-     * Find auctions with bids by user ID - returns domain entities.
+     * One keyset page of the auctions a user has bid on, latest end date first (status null = any status).
+     * afterEndDate/afterId identify the last row of the previous page; null for the first page.
      */
-    List<Auction> findAuctionsWithBidsByUserIdDomain(Long userId);
+    List<UserAuctionRow> findAuctionsWithBidsByUserIdDomain(Long userId, AuctionStatus status,
+                                                            OffsetDateTime afterEndDate, Long afterId, int limit);
 
     /**
-     * Find auctions by seller ID ordered by creation date
+     * One keyset page of a seller's auctions, newest first (status null = any status).
+     * afterCreatedAt/afterId identify the last row of the previous page; null for the first page.
      */
-    List<AuctionRepository.UserAuctionProjection> findBySellerIdOrderByCreatedAtDesc(Long sellerId);
+    List<UserAuctionRow> findSellerAuctionsPage(Long sellerId, AuctionStatus status,
+                                                OffsetDateTime afterCreatedAt, Long afterId, int limit);
 }
@@ -0,0 +1,20 @@
+package com.myapp.server.auctions.repository;
+
+import com.myapp.server.auctions.entity.enums.AuctionStatus;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * Narrow row for the seller's "my auctions" page: only the columns UserAuctionItem needs.
+ * Built by a JPQL constructor expression; currentPrice already falls back to minPrice.
+ */
+public record UserAuctionRow(
+        Long id,
+        String title,
+        AuctionStatus status,
+        Integer bidsCount,
+        OffsetDateTime endDate,
+        BigDecimal currentPrice,
+        OffsetDateTime createdAt
+) {}
@@ -47,6 +47,17 @@ public class ActiveAuctionsPaging {
         return new PageImpl<>(auctions, pageable, totalElements);
     }
 
+    /**
+     * Create a Page<T> from already-mapped rows (entities or list projections).
+     */
+    public <T> Page<T> createPage(
+        List<T> rows,
+        Pageable pageable,
+        long totalElements
+    ) {
+        return new PageImpl<>(rows, pageable, totalElements);
+    }
+
     /**
      * Calculate offset from Pageable for query execution.
      */
@@ -0,0 +1,188 @@
+package com.myapp.server.auctions.repository.impl;
+
+import com.myapp.server.auctions.entity.Auction;
+import com.myapp.server.auctions.entity.enums.AuctionCondition;
+import com.myapp.server.auctions.entity.enums.AuctionStatus;
+import com.myapp.server.auctions.repository.AuctionListRow;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Supplier;
+
+/**
+ * Registry of precompiled active-auction filter queries.
+ * The six optional filters give 2^6 WHERE-clause shapes; every shape is registered once at startup
+ * as a named query per result kind, so a listing never builds or re-parses JPQL and always sends
+ * identical SQL text (which keeps PgJDBC's per-connection server-prepared statements warm).
+ * Each template records its own execution timer: {@code auctions.search.template{template,kind}}.
+ */
+@Slf4j
+@Component
+public class ActiveAuctionsQueryTemplates {
+
+    static final int CATEGORY = 1;
+    static final int MIN_PRICE = 1 << 1;
+    static final int MAX_PRICE = 1 << 2;
+    static final int CONDITIONS = 1 << 3;
+    static final int EXCLUDE_SELLER = 1 << 4;
+    static final int SEARCH = 1 << 5;
+    private static final int TEMPLATE_COUNT = 1 << 6;
+
+    static final String LIST_ROW_SELECT = "SELECT new com.myapp.server.auctions.repository.AuctionListRow("
+        + "a.id, a.title, a.description, a.condition, a.categories, a.imageUrls, "
+        + "a.minPrice, a.bidIncrement, a.currentBidAmount, a.bidsCount, a.endDate, a.sellerId, a.createdAt, a.updatedAt) FROM Auction a";
+
+    /**
+     * Result kinds compiled for every filter shape.
+     */
+    enum Kind {
+        ROWS(AuctionListRow.class, LIST_ROW_SELECT, true),
+        ENTITIES(Auction.class, "SELECT a FROM Auction a", true),
+        COUNT(Long.class, "SELECT COUNT(a) FROM Auction a", false);
+
+        final Class<?> resultType;
+        final String selectClause;
+        final boolean ordered;
+
+        Kind(Class<?> resultType, String selectClause, boolean ordered) {
+            this.resultType = resultType;
+            this.selectClause = selectClause;
+            this.ordered = ordered;
+        }
+    }
+
+    /**
+     * Filter values of one request; null/empty means the filter is off.
+     */
+    record Filter(String categoryPattern, BigDecimal minPrice, BigDecimal maxPrice,
+                  List<AuctionCondition> conditions, Long excludeSellerId, String searchPattern) {
+
+        int mask() {
+            int mask = 0;
+            if (categoryPattern != null) mask |= CATEGORY;
+            if (minPrice != null) mask |= MIN_PRICE;
+            if (maxPrice != null) mask |= MAX_PRICE;
+            if (conditions != null && !conditions.isEmpty()) mask |= CONDITIONS;
+            if (excludeSellerId != null) mask |= EXCLUDE_SELLER;
+            if (searchPattern != null) mask |= SEARCH;
+            return mask;
+        }
+    }
+
+    private final EntityManager entityManager;
+    private final Timer[][] timers = new Timer[Kind.values().length][TEMPLATE_COUNT];
+
+    public ActiveAuctionsQueryTemplates(EntityManager entityManager, EntityManagerFactory entityManagerFactory,
+                                        MeterRegistry meterRegistry) {
+        this.entityManager = entityManager;
+        registerTemplates(entityManagerFactory, meterRegistry);
+    }
+
+    private void registerTemplates(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        EntityManager compiler = entityManagerFactory.createEntityManager();
+        try {
+            for (Kind kind : Kind.values()) {
+                for (int mask = 0; mask < TEMPLATE_COUNT; mask++) {
+                    String jpql = buildJpql(kind, mask);
+                    entityManagerFactory.addNamedQuery(queryName(kind, mask), compiler.createQuery(jpql, kind.resultType));
+                    timers[kind.ordinal()][mask] = Timer.builder("auctions.search.template")
+                        .tag("template", describe(mask))
+                        .tag("kind", kind.name().toLowerCase())
+                        .register(meterRegistry);
+                }
+            }
+        } finally {
+            compiler.close();
+        }
+        log.info("Registered {} active-auction query templates", Kind.values().length * TEMPLATE_COUNT);
+    }
+
+    /**
+     * Runs the precompiled template matching the filter, with its parameters bound.
+     */
+    <T> List<T> list(Kind kind, Class<T> resultType, Filter filter, int offset, int limit) {
+        int mask = filter.mask();
+        return timed(kind, mask, () -> {
+            TypedQuery<T> query = entityManager.createNamedQuery(queryName(kind, mask), resultType);
+            bind(query, filter);
+            query.setFirstResult(offset);
+            query.setMaxResults(limit);
+            return query.getResultList();
+        });
+    }
+
+    long count(Filter filter) {
+        int mask = filter.mask();
+        return timed(Kind.COUNT, mask, () -> {
+            TypedQuery<Long> query = entityManager.createNamedQuery(queryName(Kind.COUNT, mask), Long.class);
+            bind(query, filter);
+            return query.getSingleResult();
+        });
+    }
+
+    private <R> R timed(Kind kind, int mask, Supplier<R> execution) {
+        return timers[kind.ordinal()][mask].record(execution);
+    }
+
+    private static String queryName(Kind kind, int mask) {
+        return "ActiveAuctions." + kind.name().toLowerCase() + "#" + mask;
+    }
+
+    private static String buildJpql(Kind kind, int mask) {
+        StringBuilder jpql = new StringBuilder(kind.selectClause).append(" WHERE a.status = :status");
+        if ((mask & CATEGORY) != 0) jpql.append(" AND a.categories LIKE :categoryPattern ESCAPE '\\'");
+        // Use COALESCE to handle null currentBidAmount (fallback to minPrice for auctions without bids)
+        if ((mask & MIN_PRICE) != 0) jpql.append(" AND COALESCE(a.currentBidAmount, a.minPrice) >= :minPrice");
+        if ((mask & MAX_PRICE) != 0) jpql.append(" AND COALESCE(a.currentBidAmount, a.minPrice) <= :maxPrice");
+        if ((mask & CONDITIONS) != 0) jpql.append(" AND a.condition IN :conditions");
+        if ((mask & EXCLUDE_SELLER) != 0) jpql.append(" AND a.sellerId != :excludeSellerId");
+        if ((mask & SEARCH) != 0) jpql.append(" AND (a.title LIKE :searchPattern ESCAPE '\\' OR a.description LIKE :searchPattern ESCAPE '\\')");
+        // id breaks end-date ties so pages are stable (and match the in-memory read model)
+        if (kind.ordered) jpql.append(" ORDER BY a.endDate ASC, a.id ASC");
+        return jpql.toString();
+    }
+
+    private static void bind(TypedQuery<?> q, Filter filter) {
+        q.setParameter("status", AuctionStatus.ACTIVE);
+        if (filter.categoryPattern() != null) q.setParameter("categoryPattern", containsPattern(filter.categoryPattern()));
+        if (filter.minPrice() != null) q.setParameter("minPrice", filter.minPrice());
+        if (filter.maxPrice() != null) q.setParameter("maxPrice", filter.maxPrice());
+        if (filter.conditions() != null && !filter.conditions().isEmpty()) {
+            // De-duplicated so the list length (and Hibernate's padded IN bucket) stays within the enum size
+            q.setParameter("conditions", new ArrayList<>(EnumSet.copyOf(filter.conditions())));
+        }
+        if (filter.excludeSellerId() != null) q.setParameter("excludeSellerId", filter.excludeSellerId());
+        if (filter.searchPattern() != null) q.setParameter("searchPattern", containsPattern(filter.searchPattern()));
+    }
+
+    /**
+     * LIKE pattern matching {@code text} literally anywhere, the same as String.contains:
+     * % and _ typed by the user are escaped rather than treated as wildcards.
+     */
+    static String containsPattern(String text) {
+        String escaped = text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private static String describe(int mask) {
+        if (mask == 0) return "status";
+        StringJoiner joiner = new StringJoiner("+");
+        if ((mask & CATEGORY) != 0) joiner.add("category");
+        if ((mask & MIN_PRICE) != 0) joiner.add("min");
+        if ((mask & MAX_PRICE) != 0) joiner.add("max");
+        if ((mask & CONDITIONS) != 0) joiner.add("conditions");
+        if ((mask & EXCLUDE_SELLER) != 0) joiner.add("exclude");
+        if ((mask & SEARCH) != 0) joiner.add("search");
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,36 @@
+package com.myapp.server.auctions.repository.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Bulk close of expired auctions in a single statement per chunk.
+ * The inner SELECT locks at most {@code limit} rows (SKIP LOCKED, so a row held by an in-flight bid
+ * is simply picked up by a later chunk), and RETURNING hands back exactly the ids that changed.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionClosingQueries {
+
+    private final JdbcTemplate jdbc;
+
+    public List<Long> closeExpiredChunk(OffsetDateTime now, int limit) {
+        return jdbc.queryForList("""
+            UPDATE public.auctions a
+            SET status = CASE WHEN a.bids_count > 0 THEN 'sold' ELSE 'unsold' END,
+                updated_at = ?
+            WHERE a.id IN (
+                SELECT e.id FROM public.auctions e
+                WHERE e.status = 'active' AND e.end_date <= ?
+                ORDER BY e.end_date
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING a.id
+        """, Long.class, now, now, limit);
+    }
+}
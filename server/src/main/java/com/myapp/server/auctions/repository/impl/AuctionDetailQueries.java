@@ -78,4 +78,15 @@ public class AuctionDetailQueries {
         }
         return null;
     }
+
+    /**
+     * Version lookup for conditional GETs - selects updated_at only, never loads the entity.
+     */
+    public OffsetDateTime findUpdatedAtById(Long id) {
+        return entityManager.createQuery("SELECT a.updatedAt FROM Auction a WHERE a.id = :id", OffsetDateTime.class)
+            .setParameter("id", id)
+            .getResultStream()
+            .findFirst()
+            .orElse(null);
+    }
 }
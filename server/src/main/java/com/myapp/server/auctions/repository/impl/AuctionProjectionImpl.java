@@ -33,4 +33,5 @@ public class AuctionProjectionImpl implements AuctionRepository.AuctionProjectio
     @Override public String getImageUrls() { return auction.getImageUrls(); }
     @Override public Long getSellerId() { return auction.getSellerId(); }
     @Override public String getStatus() { return auction.getStatus().name(); }
+    @Override public OffsetDateTime getUpdatedAt() { return auction.getUpdatedAt(); }
 }
@@ -4,11 +4,14 @@ import com.myapp.server.auctions.dto.AuctionListItem;
 import com.myapp.server.auctions.entity.Auction;
 import com.myapp.server.auctions.entity.enums.AuctionStatus;
 import com.myapp.server.auctions.repository.AuctionRepository;
+import com.myapp.server.auctions.repository.UserAuctionRow;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
+import java.util.ArrayList;
 import java.util.List;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
@@ -41,27 +44,7 @@ class UserAuctionProjectionImpl implements AuctionRepository.AuctionProjection {
     @Override public String getImageUrls() { return auction.getImageUrls(); }
     @Override public Long getSellerId() { return auction.getSellerId(); }
     @Override public String getStatus() { return auction.getStatus().toString(); }
-}
-
-/**
- * Separate projection implementation for UserAuctionProjection interface
- */
-class UserAuctionProjectionForUser implements AuctionRepository.UserAuctionProjection {
-    private final Auction auction;
-    
-    public UserAuctionProjectionForUser(Auction auction) {
-        this.auction = auction;
-    }
-    
-    @Override public Long getId() { return auction.getId(); }
-    @Override public String getTitle() { return auction.getTitle(); }
-    @Override public AuctionStatus getAuctionStatus() { return auction.getStatus(); }
-    @Override public Integer getBidsCount() { return auction.getBidsCount(); }
-    @Override public OffsetDateTime getEndDate() { return auction.getEndDate(); }
-    @Override public BigDecimal getCurrentPrice() { 
-        return auction.getCurrentBidAmount() != null ? auction.getCurrentBidAmount() : auction.getMinPrice(); 
-    }
-    @Override public BigDecimal getMinPrice() { return auction.getMinPrice(); }
+    @Override public OffsetDateTime getUpdatedAt() { return auction.getUpdatedAt(); }
 }
 
 /**
@@ -74,6 +57,7 @@ class UserAuctionProjectionForUser implements AuctionRepository.UserAuctionProje
 public class UserAuctionsQueries {
 
     private final EntityManager entityManager;
+    private final JdbcTemplate jdbc;
 
     /**
      * Find auctions by seller ID - returns domain entities.
@@ -88,25 +72,76 @@ public class UserAuctionsQueries {
     }
 
     /**
-     * Find auctions with bids by user ID - returns domain entities.
-     * TODO: Implement when bid tracking is available
+     * One keyset page of the auctions a user has bid on, latest end date first, optionally one status.
+     * Driven by user_auction_bid_state (one row per user and auction, V5): the range scan on
+     * (user_id, end_date DESC, auction_id DESC) yields the rows already in page order, so a page reads
+     * only its own rows plus the joined auctions, however deep the cursor. The end date is copied from
+     * the auction at the first bid and never changes after. See bench/auctions_with_bids.sql.
+     * afterEndDate/afterId are the last row of the previous page (null for the first page).
      */
-    public List<Auction> findAuctionsWithBidsByUserIdDomain(Long userId) {
-        // Placeholder implementation - would require bids table join
-        return List.of();
+    public List<UserAuctionRow> findAuctionsWithBidsByUserIdDomain(Long userId, AuctionStatus status,
+                                                                   OffsetDateTime afterEndDate, Long afterId, int limit) {
+        StringBuilder sql = new StringBuilder("""
+            SELECT a.id, a.title, a.status, a.bids_count, s.end_date,
+                   COALESCE(a.current_bid_amount, a.min_price) AS current_price, a.created_at
+            FROM public.user_auction_bid_state s
+            JOIN public.auctions a ON a.id = s.auction_id
+            WHERE s.user_id = ?
+        """);
+        List<Object> args = new ArrayList<>();
+        args.add(userId);
+        if (status != null) {
+            sql.append(" AND a.status = ?");
+            args.add(status.getValue());
+        }
+        if (afterEndDate != null) {
+            sql.append(" AND (s.end_date, s.auction_id) < (?, ?)");
+            args.add(afterEndDate);
+            args.add(afterId);
+        }
+        sql.append(" ORDER BY s.end_date DESC, s.auction_id DESC LIMIT ?");
+        args.add(limit);
+
+        return jdbc.query(sql.toString(), (rs, rowNum) -> new UserAuctionRow(
+            rs.getLong("id"),
+            rs.getString("title"),
+            AuctionStatus.valueOf(rs.getString("status").toUpperCase()),
+            rs.getInt("bids_count"),
+            rs.getObject("end_date", OffsetDateTime.class),
+            rs.getBigDecimal("current_price"),
+            rs.getObject("created_at", OffsetDateTime.class)
+        ), args.toArray());
     }
 
-    // === EXACT SIGNATURE DELEGATION METHODS (352→Custom migration) ===
-    
-    public java.util.List<AuctionRepository.UserAuctionProjection> findBySellerIdOrderByCreatedAtDesc(Long sellerId) {
-        // Direct JPQL implementation to avoid circular dependencies
-        String jpql = "SELECT a FROM Auction a WHERE a.sellerId = :sellerId ORDER BY a.createdAt DESC";
-        TypedQuery<Auction> query = entityManager.createQuery(jpql, Auction.class);
+    /**
+     * One keyset page of a seller's auctions, newest first, optionally restricted to one status.
+     * Selects only the UserAuctionRow columns and walks (seller_id, created_at DESC, id DESC);
+     * afterCreatedAt/afterId are the last row of the previous page (null for the first page).
+     */
+    public List<UserAuctionRow> findSellerAuctionsPage(Long sellerId, AuctionStatus status,
+                                                       OffsetDateTime afterCreatedAt, Long afterId, int limit) {
+        StringBuilder jpql = new StringBuilder(
+            "SELECT new com.myapp.server.auctions.repository.UserAuctionRow("
+            + "a.id, a.title, a.status, a.bidsCount, a.endDate, COALESCE(a.currentBidAmount, a.minPrice), a.createdAt) "
+            + "FROM Auction a WHERE a.sellerId = :sellerId");
+        if (status != null) {
+            jpql.append(" AND a.status = :status");
+        }
+        if (afterCreatedAt != null) {
+            jpql.append(" AND (a.createdAt < :afterCreatedAt OR (a.createdAt = :afterCreatedAt AND a.id < :afterId))");
+        }
+        jpql.append(" ORDER BY a.createdAt DESC, a.id DESC");
+
+        TypedQuery<UserAuctionRow> query = entityManager.createQuery(jpql.toString(), UserAuctionRow.class);
         query.setParameter("sellerId", sellerId);
-        
-        List<Auction> auctions = query.getResultList();
-        return auctions.stream()
-            .map(UserAuctionProjectionForUser::new)
-            .collect(java.util.stream.Collectors.toList());
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (afterCreatedAt != null) {
+            query.setParameter("afterCreatedAt", afterCreatedAt);
+            query.setParameter("afterId", afterId);
+        }
+        query.setMaxResults(limit);
+        return query.getResultList();
     }
 }
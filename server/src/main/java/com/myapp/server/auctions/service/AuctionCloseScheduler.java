@@ -0,0 +1,171 @@
+package com.myapp.server.auctions.service;
+
+import com.myapp.server.auctions.entity.enums.AuctionStatus;
+import com.myapp.server.auctions.event.AuctionCreatedEvent;
+import com.myapp.server.auctions.event.AuctionPriceChangedEvent;
+import com.myapp.server.auctions.event.AuctionsClosedEvent;
+import com.myapp.server.auctions.repository.AuctionRepository;
+import com.myapp.server.common.cluster.ClusterCoordinator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closes each auction at its end time instead of waiting for the next status poll.
+ * Active auctions are armed in a {@link DelayQueue} keyed by their end date (fed periodically for
+ * auctions ending within the horizon, added on create, re-armed when a bid moves the end date); a
+ * single worker thread takes each one as it becomes due and runs a conditional close. Superseded
+ * entries stay in the queue but are skipped, since only the end date recorded in {@code armed} is honoured.
+ * With several instances the feed only arms this node's shard ({@link ClusterCoordinator#owns}), so
+ * adding nodes splits the closes between them; auctions created or bid on locally are armed here as well,
+ * which is harmless because the close is conditional.
+ * The 60s poll in {@link AuctionStatusUpdateService} remains as a safety net.
+ * Per-node lag (close time minus end date) is recorded as {@code auctions.close.lag}.
+ */
+@Slf4j
+@Component
+public class AuctionCloseScheduler {
+
+    private static final long RETRY_DELAY_MS = 1000;
+
+    private final AuctionRepository auctionRepository;
+    private final AuctionStatusUpdateService statusUpdateService;
+    private final ClusterCoordinator clusterCoordinator;
+    private final Timer closeLag;
+    private final Duration horizon;
+    private final DelayQueue<PendingClose> queue = new DelayQueue<>();
+    private final Map<Long, OffsetDateTime> armed = new ConcurrentHashMap<>();
+    private volatile Thread worker;
+
+    public AuctionCloseScheduler(AuctionRepository auctionRepository,
+                                 AuctionStatusUpdateService statusUpdateService,
+                                 ClusterCoordinator clusterCoordinator,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.auctions.close.horizon-minutes:5}") long horizonMinutes) {
+        this.auctionRepository = auctionRepository;
+        this.statusUpdateService = statusUpdateService;
+        this.clusterCoordinator = clusterCoordinator;
+        this.horizon = Duration.ofMinutes(horizonMinutes);
+        this.closeLag = Timer.builder("auctions.close.lag")
+            .description("Delay between an auction's end date and its close on this node")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        worker = Thread.ofPlatform().name("auction-closer").daemon().start(this::run);
+    }
+
+    /**
+     * Arms this node's share of the auctions ending within the horizon. Runs well inside the
+     * horizon, so every auction is armed by its owner several times before it ends.
+     */
+    @Scheduled(fixedDelayString = "${app.auctions.close.feed-ms:30000}")
+    public void feed() {
+        ClusterCoordinator.Shard shard = clusterCoordinator.shard();
+        if (shard.index() < 0) {
+            return;
+        }
+        try {
+            OffsetDateTime before = OffsetDateTime.now().plus(horizon);
+            for (AuctionRepository.AuctionEndDate auction
+                    : auctionRepository.findEndDatesForShard(AuctionStatus.ACTIVE, before, shard.count(), shard.index())) {
+                arm(auction.getId(), auction.getEndDate());
+            }
+        } catch (DataAccessException e) {
+            // Auctions created from now on are still armed; the poller covers the rest
+            log.warn("Could not load auction end dates: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    /**
+     * Schedules (or re-schedules) the close of an auction at its end date.
+     */
+    public void arm(long auctionId, OffsetDateTime endDate) {
+        if (endDate == null) {
+            return;
+        }
+        OffsetDateTime previous = armed.put(auctionId, endDate);
+        if (!endDate.equals(previous)) {
+            queue.put(new PendingClose(auctionId, endDate, endDate.toInstant().toEpochMilli()));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onAuctionCreated(AuctionCreatedEvent event) {
+        arm(event.auctionId(), event.endDate());
+    }
+
+    @TransactionalEventListener
+    public void onPriceChanged(AuctionPriceChangedEvent event) {
+        if (event.endDate() != null && armed.containsKey(event.auctionId())) {
+            arm(event.auctionId(), event.endDate());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onAuctionsClosed(AuctionsClosedEvent event) {
+        event.auctionIds().forEach(armed::remove);
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            PendingClose due;
+            try {
+                due = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            // Superseded by a later end date, or already closed by the poller
+            if (!due.endDate().equals(armed.get(due.auctionId()))) {
+                continue;
+            }
+            try {
+                if (statusUpdateService.closeIfDue(due.auctionId())) {
+                    closeLag.record(Duration.between(due.endDate(), OffsetDateTime.now()));
+                }
+                armed.remove(due.auctionId(), due.endDate());
+            } catch (RuntimeException e) {
+                log.warn("Closing auction {} failed, retrying: {}", due.auctionId(), e.getMessage());
+                queue.put(new PendingClose(due.auctionId(), due.endDate(), System.currentTimeMillis() + RETRY_DELAY_MS));
+            }
+        }
+    }
+
+    private record PendingClose(long auctionId, OffsetDateTime endDate, long fireAtMillis) implements Delayed {
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(fireAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(fireAtMillis, ((PendingClose) other).fireAtMillis);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.myapp.server.auctions.dto.CreateAuctionResponse;
 import com.myapp.server.auctions.entity.Auction;
 import com.myapp.server.auctions.entity.enums.AuctionCondition;
 import com.myapp.server.auctions.entity.enums.AuctionStatus;
+import com.myapp.server.auctions.event.AuctionCreatedEvent;
 import com.myapp.server.auctions.mapper.AuctionFormMapper;
 import com.myapp.server.auctions.repository.AuctionRepository;
 import com.myapp.server.auctions.service.policy.AuctionDefaults;
@@ -12,7 +13,9 @@ import com.myapp.server.auctions.service.policy.AuctionValidationPolicy;
 import com.myapp.server.auth.entity.User;
 import com.myapp.server.auth.repository.UserRepository;
 import com.myapp.server.common.exception.BusinessRuleViolationException;
+import com.myapp.server.common.outbox.OutboxWriter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,6 +36,8 @@ public class AuctionCommandService {
     private final AuctionFormMapper auctionFormMapper;
     private final AuctionValidationPolicy validationPolicy;
     private final AuctionDefaults auctionDefaults;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxWriter outboxWriter;
     
     /**
      * יוצר מכרז חדש
@@ -50,6 +55,9 @@ public class AuctionCommandService {
         
         // Save auction
         Auction savedAuction = auctionRepository.save(auction);
+        var created = new AuctionCreatedEvent(savedAuction.getId(), savedAuction.getEndDate());
+        eventPublisher.publishEvent(created);
+        outboxWriter.append(created, savedAuction.getId());
         
         // Map to response
         return auctionFormMapper.toCreateAuctionResponse(savedAuction, "Auction created successfully");
@@ -0,0 +1,181 @@
+package com.myapp.server.auctions.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.myapp.server.auctions.dto.AuctionDetail;
+import com.myapp.server.auctions.entity.enums.AuctionStatus;
+import com.myapp.server.auctions.event.AuctionPriceChangedEvent;
+import com.myapp.server.auctions.event.AuctionsClosedEvent;
+import com.myapp.server.auctions.event.RemoteAuctionChangesEvent;
+import com.myapp.server.auctions.hot.HotAuctionCache;
+import com.myapp.server.auctions.hot.HotAuctionTracker;
+import com.myapp.server.auctions.readmodel.ActiveAuctionsReadModel;
+import com.myapp.server.common.exception.BusinessRuleViolationException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Set;
+
+/**
+ * Read-through cache of auction details (any status), image URLs already parsed.
+ * Misses load from the active read model when it has the auction, otherwise from the database.
+ * Bids and closing update cached entries in place after commit instead of evicting them, so a hot
+ * auction is never reloaded while it is being bid on; the version is always the committed updated_at,
+ * so every node hands out the same ETag for the same state. Caffeine's W-TinyLFU admission keeps one-off
+ * visits (crawlers walking every id) from displacing frequently viewed auctions.
+ * Auctions in the tracker's hot set weigh nothing, so they are pinned outside the size bound, and are
+ * reloaded from the database on every prewarm cycle (a fresh write re-runs the weigher and restarts the
+ * TTL on current data), so a pinned entry is never more than one cycle behind.
+ * Changes committed on other nodes evict entries through {@link RemoteAuctionChangesEvent}.
+ */
+@Component
+public class AuctionDetailCache implements HotAuctionCache {
+
+    private final AuctionQueryService auctionQueryService;
+    private final ActiveAuctionsReadModel activeAuctionsReadModel;
+    private final Cache<Long, VersionedAuctionDetail> cache;
+
+    public AuctionDetailCache(AuctionQueryService auctionQueryService,
+                              ActiveAuctionsReadModel activeAuctionsReadModel,
+                              HotAuctionTracker hotAuctionTracker,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.auctions.detail-cache.max-size:10000}") long maxSize,
+                              @Value("${app.auctions.detail-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.auctionQueryService = auctionQueryService;
+        this.activeAuctionsReadModel = activeAuctionsReadModel;
+        this.cache = Caffeine.newBuilder()
+            .maximumWeight(maxSize)
+            // Weight is taken on write; pinAndWarm reloads hot entries and drops cooled ones
+            .weigher((Long id, VersionedAuctionDetail detail) -> hotAuctionTracker.isHot(id) ? 0 : 1)
+            // Bounds staleness for changes this node has no event for (other nodes' bids, manual DB edits)
+            .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auctions.detail");
+    }
+
+    /**
+     * Cached detail; throws the query service's NOT_FOUND exception for unknown ids (not cached).
+     */
+    public VersionedAuctionDetail get(Long id) {
+        return cache.get(id, this::load);
+    }
+
+    /**
+     * Version of a cached auction, or null when it is not cached.
+     */
+    public OffsetDateTime findCachedVersion(Long id) {
+        VersionedAuctionDetail cached = cache.getIfPresent(id);
+        return cached == null ? null : cached.version();
+    }
+
+    @TransactionalEventListener
+    public void onPriceChanged(AuctionPriceChangedEvent event) {
+        cache.asMap().computeIfPresent(event.auctionId(), (id, cached) -> {
+            AuctionDetail d = cached.detail();
+            // Listeners for concurrent bids may run out of order; never move back to an older state
+            if (d.bidsCount() != null && event.bidsCount() < d.bidsCount()) {
+                return cached;
+            }
+            AuctionDetail updated = new AuctionDetail(
+                d.id(),
+                d.title(),
+                d.description(),
+                d.condition(),
+                d.minPrice(),
+                d.bidIncrement(),
+                event.currentPrice(),
+                event.bidsCount(),
+                event.currentPrice().add(d.bidIncrement()),
+                event.endDate() != null ? event.endDate() : d.endDate(),
+                d.imageUrls(),
+                d.sellerId(),
+                d.status()
+            );
+            return new VersionedAuctionDetail(updated, event.updatedAt());
+        });
+    }
+
+    @TransactionalEventListener
+    public void onAuctionsClosed(AuctionsClosedEvent event) {
+        for (Long auctionId : event.auctionIds()) {
+            cache.asMap().computeIfPresent(auctionId, (id, cached) -> {
+                AuctionDetail d = cached.detail();
+                // Same rule as the status updater: any bid means sold
+                AuctionStatus status = d.bidsCount() != null && d.bidsCount() > 0 ? AuctionStatus.SOLD : AuctionStatus.UNSOLD;
+                AuctionDetail closed = new AuctionDetail(
+                    d.id(),
+                    d.title(),
+                    d.description(),
+                    d.condition(),
+                    d.minPrice(),
+                    d.bidIncrement(),
+                    d.currentBidAmount(),
+                    d.bidsCount(),
+                    d.minBidToPlace(),
+                    d.endDate(),
+                    d.imageUrls(),
+                    d.sellerId(),
+                    status.name()
+                );
+                return new VersionedAuctionDetail(closed, event.closedAt());
+            });
+        }
+    }
+
+    /**
+     * Evicts entries older than the broadcast version; entries already at it (this node's own writes,
+     * applied in place above) are kept.
+     */
+    @EventListener
+    public void onRemoteChanges(RemoteAuctionChangesEvent event) {
+        if (event.all()) {
+            cache.invalidateAll();
+            return;
+        }
+        OffsetDateTime version = event.version();
+        for (Long id : event.auctionIds()) {
+            cache.asMap().computeIfPresent(id, (key, cached) ->
+                version != null && cached.version() != null && !cached.version().isBefore(version) ? cached : null);
+        }
+    }
+
+    @Override
+    public void pinAndWarm(Set<Long> hot, Set<Long> cooled) {
+        for (Long id : hot) {
+            // Straight from the database: the read model may itself be behind other nodes' writes
+            cache.asMap().compute(id, (key, cached) -> reloadIfExists(key));
+        }
+        // Weighed 0 while hot; the next read reloads them with their normal weight
+        cache.invalidateAll(cooled);
+    }
+
+    private VersionedAuctionDetail reloadIfExists(Long id) {
+        try {
+            return auctionQueryService.findVersionedAuctionDetail(id);
+        } catch (BusinessRuleViolationException e) {
+            if (e.getStatus() == HttpStatus.NOT_FOUND) {
+                return null;
+            }
+            throw e;
+        }
+    }
+
+    private VersionedAuctionDetail load(Long id) {
+        var fromReadModel = activeAuctionsReadModel.findAuctionDetail(id);
+        if (fromReadModel.isPresent()) {
+            var version = activeAuctionsReadModel.findVersion(id);
+            if (version.isPresent()) {
+                return new VersionedAuctionDetail(fromReadModel.get(), version.get());
+            }
+        }
+        return auctionQueryService.findVersionedAuctionDetail(id);
+    }
+}
@@ -2,12 +2,16 @@ package com.myapp.server.auctions.service;
 
 import com.myapp.server.auctions.dto.AuctionDetail;
 import com.myapp.server.auctions.dto.AuctionListItem;
+import com.myapp.server.auctions.dto.UserAuctionItem;
+import com.myapp.server.auctions.dto.UserAuctionPage;
 import com.myapp.server.auctions.entity.enums.AuctionStatus;
 import com.myapp.server.auctions.mapper.AuctionDetailMapper;
 import com.myapp.server.auctions.mapper.AuctionListMapper;
 import com.myapp.server.auctions.repository.AuctionRepository;
+import com.myapp.server.auctions.repository.UserAuctionRow;
 import com.myapp.server.auctions.service.policy.AuctionValidationPolicy;
 import com.myapp.server.common.exception.BusinessRuleViolationException;
+import com.myapp.server.common.web.PageCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -33,7 +37,7 @@ public class AuctionQueryService {
     private final AuctionValidationPolicy validationPolicy;
 
     public Page<AuctionListItem> findActiveAuctions(int page, int size, String category, BigDecimal minPrice, BigDecimal maxPrice, List<String> conditions, String searchText, Long excludeSellerId) {
-        return auctionRepository.findActiveAuctionsDomain(PageRequest.of(page, size), category, minPrice, maxPrice, validationPolicy.validateAndParseConditions(conditions), validationPolicy.validateSearchText(searchText), excludeSellerId)
+        return auctionRepository.findActiveAuctionRows(PageRequest.of(page, size), category, minPrice, maxPrice, validationPolicy.validateAndParseConditions(conditions), validationPolicy.validateSearchText(searchText), excludeSellerId)
             .map(auctionListMapper::toAuctionListItem);
     }
 
@@ -41,20 +45,65 @@ public class AuctionQueryService {
         return runQueryMapToObject(() -> auctionRepository.findAuctionDetailByIdAnyStatus(id), () -> "Auction not found");
     }
 
-    public List<com.myapp.server.auctions.dto.UserAuctionItem> getUserAuctions(Long userId) {
-        List<AuctionRepository.UserAuctionProjection> projections = 
-            auctionRepository.findBySellerIdOrderByCreatedAtDesc(userId);
-        
-        return projections.stream()
-            .map(p -> new com.myapp.server.auctions.dto.UserAuctionItem(
-                p.getId(),
-                p.getTitle(),
-                p.getCurrentPrice(),
-                mapStatusToHebrew(p.getAuctionStatus()),
-                p.getBidsCount(),
-                p.getEndDate().toString()
-            ))
-            .toList();
+    /**
+     * Detail together with the updated_at it was read at (for the detail cache), from a single load.
+     */
+    public VersionedAuctionDetail findVersionedAuctionDetail(Long id) {
+        AuctionRepository.AuctionProjection projection = auctionRepository.findAuctionDetailByIdAnyStatus(id);
+        if (projection == null) {
+            throw new BusinessRuleViolationException(HttpStatus.NOT_FOUND, "Auction not found");
+        }
+        return new VersionedAuctionDetail(auctionDetailMapper.toAuctionDetail(projection), projection.getUpdatedAt());
+    }
+
+    public java.time.OffsetDateTime findAuctionVersion(Long id) {
+        return auctionRepository.findUpdatedAtById(id);
+    }
+
+    /**
+     * One page of the seller's auctions, newest first. status is optional (any status when blank);
+     * after is the previous page's cursor (null for the first page).
+     */
+    public UserAuctionPage getUserAuctions(Long userId, String status, PageCursor after, int limit) {
+        AuctionStatus statusFilter = status == null || status.isBlank() ? null : validationPolicy.validateAndParseStatus(status);
+        // One extra row tells whether another page exists
+        List<UserAuctionRow> rows = auctionRepository.findSellerAuctionsPage(userId, statusFilter,
+            after != null ? after.sortKey() : null, after != null ? after.id() : null, limit + 1);
+        PageCursor next = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            UserAuctionRow last = rows.get(limit - 1);
+            next = new PageCursor(last.createdAt(), last.id());
+        }
+        return new UserAuctionPage(rows.stream().map(this::toUserAuctionItem).toList(), next);
+    }
+
+    /**
+     * One page of the auctions the user has bid on, latest end date first; same status/cursor contract
+     * as getUserAuctions, with the cursor keyed on end date.
+     */
+    public UserAuctionPage getAuctionsWithBids(Long userId, String status, PageCursor after, int limit) {
+        AuctionStatus statusFilter = status == null || status.isBlank() ? null : validationPolicy.validateAndParseStatus(status);
+        List<UserAuctionRow> rows = auctionRepository.findAuctionsWithBidsByUserIdDomain(userId, statusFilter,
+            after != null ? after.sortKey() : null, after != null ? after.id() : null, limit + 1);
+        PageCursor next = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            UserAuctionRow last = rows.get(limit - 1);
+            next = new PageCursor(last.endDate(), last.id());
+        }
+        return new UserAuctionPage(rows.stream().map(this::toUserAuctionItem).toList(), next);
+    }
+
+    private UserAuctionItem toUserAuctionItem(UserAuctionRow row) {
+        return new UserAuctionItem(
+            row.id(),
+            row.title(),
+            row.currentPrice(),
+            mapStatusToHebrew(row.status()),
+            row.bidsCount(),
+            row.endDate().toString()
+        );
     }
 
     private String mapStatusToHebrew(com.myapp.server.auctions.entity.enums.AuctionStatus status) {
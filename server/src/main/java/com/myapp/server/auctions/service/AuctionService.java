@@ -4,10 +4,13 @@ import com.myapp.server.auctions.dto.AuctionDetail;
 import com.myapp.server.auctions.dto.AuctionListItem;
 import com.myapp.server.auctions.dto.CreateAuctionRequest;
 import com.myapp.server.auctions.dto.CreateAuctionResponse;
-import com.myapp.server.auctions.dto.UserAuctionItem;
+import com.myapp.server.auctions.dto.UserAuctionPage;
+import com.myapp.server.auctions.readmodel.ActiveAuctionsReadModel;
+import com.myapp.server.common.web.PageCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -25,6 +28,8 @@ public class AuctionService {
     
     private final AuctionQueryService auctionQueryService;
     private final AuctionCommandService auctionCommandService;
+    private final ActiveAuctionsReadModel activeAuctionsReadModel;
+    private final AuctionDetailCache auctionDetailCache;
 
     /**
      * מוצא מכרזים פעילים עם paging וסינון מתקדם - כל הפרמטרים אופציונליים
@@ -39,6 +44,7 @@ public class AuctionService {
      * @param excludeSellerId ID של מוכר לא רצוי (null = ללא)
      * @return דף מכרזים מסונן ומוין
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // in-memory reads must not borrow a connection
     public Page<AuctionListItem> findActiveAuctions(
             int page,
             int size,
@@ -49,21 +55,57 @@ public class AuctionService {
             String searchText,
             Long excludeSellerId
     ) {
+        if (activeAuctionsReadModel.isReady()) {
+            return activeAuctionsReadModel.findActiveAuctions(page, size, category, minPrice, maxPrice, conditions, searchText, excludeSellerId);
+        }
+        // Only until the read model's first load succeeds
         return auctionQueryService.findActiveAuctions(page, size, category, minPrice, maxPrice, conditions, searchText, excludeSellerId);
     }
     
+    /**
+     * גרסת רשימת המכרזים הפעילים לצורך ETag - null כל עוד הרשימה נקראת מהמסד
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String findListingVersion() {
+        return activeAuctionsReadModel.listingVersion();
+    }
+
     /**
      * מוצא פרטי מכרז בודד ללא קשר לסטטוס
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuctionDetail findAuctionDetailAnyStatus(Long id) {
-        return auctionQueryService.findAuctionDetailAnyStatus(id);
+        return auctionDetailCache.get(id).detail();
+    }
+    
+    /**
+     * גרסת המכרז (updated_at) לצורך ETag - ללא טעינת הישות; null אם המכרז לא קיים
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public java.time.OffsetDateTime findAuctionVersion(Long id) {
+        // The cached detail's version first, so the ETag always matches the body we would serve
+        java.time.OffsetDateTime cached = auctionDetailCache.findCachedVersion(id);
+        if (cached != null) {
+            return cached;
+        }
+        return activeAuctionsReadModel.findVersion(id)
+            .orElseGet(() -> auctionQueryService.findAuctionVersion(id));
     }
     
     /**
-     * מוצא מכרזים של משתמש ספציפי (בהתבסס על sellerId)
+     * מוצא עמוד של מכרזים של משתמש ספציפי (בהתבסס על sellerId), מהחדש לישן
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserAuctionPage getUserAuctions(Long userId, String status, PageCursor after, int limit) {
+        return auctionQueryService.getUserAuctions(userId, status, after, limit);
+    }
+
+    /**
+     * מוצא עמוד של מכרזים שהמשתמש הציע עליהם, לפי תאריך סיום מהמאוחר למוקדם
      */
-    public List<UserAuctionItem> getUserAuctions(Long userId) {
-        return auctionQueryService.getUserAuctions(userId);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UserAuctionPage getAuctionsWithBids(Long userId, String status, PageCursor after, int limit) {
+        return auctionQueryService.getAuctionsWithBids(userId, status, after, limit);
     }
 
     /**
@@ -1,47 +1,101 @@
 package com.myapp.server.auctions.service;
 
-import com.myapp.server.auctions.entity.Auction;
 import com.myapp.server.auctions.entity.enums.AuctionStatus;
+import com.myapp.server.auctions.event.AuctionsClosedEvent;
 import com.myapp.server.auctions.repository.AuctionRepository;
-import lombok.RequiredArgsConstructor;
+import com.myapp.server.common.cluster.ClusterCoordinator;
+import com.myapp.server.common.outbox.OutboxWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class AuctionStatusUpdateService {
 
     private final AuctionRepository auctionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ClusterCoordinator clusterCoordinator;
+    private final OutboxWriter outboxWriter;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+
+    public AuctionStatusUpdateService(AuctionRepository auctionRepository,
+                                      ApplicationEventPublisher eventPublisher,
+                                      ClusterCoordinator clusterCoordinator,
+                                      OutboxWriter outboxWriter,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${app.auctions.close.chunk-size:500}") int chunkSize) {
+        this.auctionRepository = auctionRepository;
+        this.eventPublisher = eventPublisher;
+        this.clusterCoordinator = clusterCoordinator;
+        this.outboxWriter = outboxWriter;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
 
     /**
      * עדכון סטטוס מכרזים - רץ כל דקה
+     * רשת ביטחון בלבד - הסגירה בזמן הסיום עצמו נעשית ב-AuctionCloseScheduler
+     * סגירה במנות: כל מנה היא UPDATE אחד בטרנזקציה משלה, כך שמספר השורות הנעולות חסום בגודל המנה
+     * רץ רק על ה-leader של האשכול (ClusterCoordinator) - שאר הצמתים מדלגים
      */
     @Scheduled(fixedRate = 60000) // כל דקה
-    @Transactional
     public void updateExpiredAuctions() {
-        OffsetDateTime now = OffsetDateTime.now();
-        
-        // מצא מכרזים פעילים שהסתיימו
-        List<Auction> expiredAuctions = auctionRepository.findByStatusAndEndDateBefore(AuctionStatus.ACTIVE, now);
-        
-        for (Auction auction : expiredAuctions) {
-            if (auction.getBidsCount() > 0) {
-                // יש הצעות - הסתיים בהצלחה
-                auction.setStatus(AuctionStatus.SOLD);
-            } else {
-                // אין הצעות - הסתיים ללא זכייה
-                auction.setStatus(AuctionStatus.UNSOLD);
-            }
-            auction.setUpdatedAt(now);
-            auctionRepository.save(auction);
+        clusterCoordinator.runIfLeader("close-expired-auctions", this::closeExpiredInChunks);
+    }
+
+    private void closeExpiredInChunks() {
+        OffsetDateTime now = closeTime();
+        int total = 0;
+        List<Long> closed;
+        do {
+            closed = chunkTransaction.execute(status -> {
+                List<Long> ids = auctionRepository.closeExpiredChunk(now, chunkSize);
+                if (!ids.isEmpty()) {
+                    // מתפרסם בתוך הטרנזקציה של המנה - המאזינים רצים אחרי ה-commit שלה
+                    var closedEvent = new AuctionsClosedEvent(ids, now);
+                    eventPublisher.publishEvent(closedEvent);
+                    outboxWriter.append(closedEvent, null);
+                }
+                return ids;
+            });
+            total += closed.size();
+        } while (closed.size() == chunkSize);
+
+        if (total > 0) {
+            log.info("Updated {} expired auctions", total);
         }
-        
-        if (!expiredAuctions.isEmpty()) {
-            System.out.println("Updated " + expiredAuctions.size() + " expired auctions");
+    }
+
+    /**
+     * סגירת מכרז בודד בזמן הסיום שלו (נקרא מה-AuctionCloseScheduler).
+     * עדכון מותנה: לא עושה כלום אם המכרז כבר נסגר או שתאריך הסיום שלו הוזז.
+     */
+    @Transactional
+    public boolean closeIfDue(long auctionId) {
+        OffsetDateTime now = closeTime();
+        int closed = auctionRepository.closeIfDue(auctionId, now,
+            AuctionStatus.ACTIVE, AuctionStatus.SOLD, AuctionStatus.UNSOLD);
+        if (closed > 0) {
+            var closedEvent = new AuctionsClosedEvent(List.of(auctionId), now);
+            eventPublisher.publishEvent(closedEvent);
+            outboxWriter.append(closedEvent, auctionId);
         }
+        return closed > 0;
+    }
+
+    // updated_at נשמר ברזולוציית מיקרו-שניות - אותו ערך בדיוק נשלח באירוע כגרסה
+    private static OffsetDateTime closeTime() {
+        return OffsetDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
@@ -0,0 +1,10 @@
+package com.myapp.server.auctions.service;
+
+import com.myapp.server.auctions.dto.AuctionDetail;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Auction detail paired with the version (updated_at) it reflects; the version backs the detail ETag.
+ */
+public record VersionedAuctionDetail(AuctionDetail detail, OffsetDateTime version) {}
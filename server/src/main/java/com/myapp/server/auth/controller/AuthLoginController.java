@@ -6,7 +6,7 @@ import com.myapp.server.auth.mapper.AuthMapper;
 import com.myapp.server.auth.service.AuthService;
 import com.myapp.server.auth.service.JwtService;
 import com.myapp.server.auth.service.LoginRateLimiter;
-import com.myapp.server.common.auth.JwtTokenExtractor;
+import com.myapp.server.common.auth.CurrentUser;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -26,7 +26,6 @@ public class AuthLoginController {
     private final JwtService jwtService;
     private final LoginRateLimiter rateLimiter;
     private final AuthMapper authMapper;
-    private final JwtTokenExtractor jwtTokenExtractor;
 
     @Value("${app.auth.cookie.name}")
     private String cookieName;
@@ -44,13 +43,11 @@ public class AuthLoginController {
     private String cookiePath;
 
     public AuthLoginController(AuthService authService, JwtService jwtService, 
-                             LoginRateLimiter rateLimiter, AuthMapper authMapper,
-                             JwtTokenExtractor jwtTokenExtractor) {
+                             LoginRateLimiter rateLimiter, AuthMapper authMapper) {
         this.authService = authService;
         this.jwtService = jwtService;
         this.rateLimiter = rateLimiter;
         this.authMapper = authMapper;
-        this.jwtTokenExtractor = jwtTokenExtractor;
     }
 
     @PostMapping("/login")
@@ -96,30 +93,15 @@ public class AuthLoginController {
     }
 
     @GetMapping("/me")
-    public ResponseEntity<?> me(HttpServletRequest req) {
-        String token = jwtTokenExtractor.extractTokenFromCookie(req);
-        if (token == null || token.isBlank()) {
+    public ResponseEntity<?> me(@CurrentUser Long userId) {
+        // Get full user details from database
+        Optional<User> userOpt = authService.findUserById(userId);
+        if (userOpt.isEmpty()) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                .body(Map.of("message", "Not authenticated"));
+                .body(Map.of("message", "User not found"));
         }
         
-        try {
-            String sub = jwtService.getSubject(token);
-            Long userId = Long.valueOf(sub);
-            
-            // Get full user details from database
-            Optional<User> userOpt = authService.findUserById(userId);
-            if (userOpt.isEmpty()) {
-                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                    .body(Map.of("message", "User not found"));
-            }
-            
-            User user = userOpt.get();
-            return ResponseEntity.ok(authMapper.toUserResponse(user));
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-                .body(Map.of("message", "Invalid token"));
-        }
+        return ResponseEntity.ok(authMapper.toUserResponse(userOpt.get()));
     }
 
     private void setAuthCookie(HttpServletResponse resp, String token) {
@@ -3,8 +3,6 @@ package com.myapp.server.auth.service;
 import com.myapp.server.auth.dto.SignupRequest;
 import com.myapp.server.auth.entity.User;
 import com.myapp.server.auth.repository.UserRepository;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -12,11 +10,11 @@ import java.util.Optional;
 @Service
 public class AuthService {
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
 
-    public AuthService(UserRepository userRepository) {
+    public AuthService(UserRepository userRepository, PasswordHasher passwordHasher) {
         this.userRepository = userRepository;
-        this.passwordEncoder = new BCryptPasswordEncoder();
+        this.passwordHasher = passwordHasher;
     }
 
     public String normalizeEmail(String email) {
@@ -75,13 +73,19 @@ public class AuthService {
             String digits = phone.replaceAll("\\D", "");
             u.setPhone(digits.isEmpty() ? null : digits);
         }
-        u.setPasswordHash(passwordEncoder.encode(req.getPassword()));
+        u.setPasswordHash(passwordHasher.hash(req.getPassword()));
         return userRepository.save(u);
     }
 
     public Optional<User> validateCredentials(String email, String rawPassword) {
         final String emailNormalized = normalizeEmail(email);
-        return userRepository.findByEmailNormalized(emailNormalized)
-                .filter(u -> u.getPasswordHash() != null && passwordEncoder.matches(rawPassword, u.getPasswordHash()));
+        Optional<User> user = userRepository.findByEmailNormalized(emailNormalized)
+                .filter(u -> u.getPasswordHash() != null && passwordHasher.matches(rawPassword, u.getPasswordHash()));
+        // הסיסמה ידועה רק עכשיו - שדרוג ה-hash ל-cost הנוכחי אם נשמר עם cost נמוך יותר
+        user.filter(u -> passwordHasher.needsRehash(u.getPasswordHash())).ifPresent(u -> {
+            u.setPasswordHash(passwordHasher.hash(rawPassword));
+            userRepository.save(u);
+        });
+        return user;
     }
 }
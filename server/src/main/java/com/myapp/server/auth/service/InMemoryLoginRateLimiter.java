@@ -0,0 +1,205 @@
+package com.myapp.server.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Failed-login limiter with separate budgets per account (normalized email) and per client IP.
+ * Each key keeps a sliding-window counter: the current and previous fixed windows, with the previous
+ * one weighted by how much of it still overlaps the sliding window - two ints per key instead of a log.
+ * Memory is bounded: each dimension holds at most {@code capacity} keys, split over lock stripes that
+ * each evict their least recently used key when full, so one hot key only contends within its stripe.
+ * A periodic sweep drops keys whose windows have both expired.
+ * A successful login clears only the account's counter; the IP keeps counting, so one valid account
+ * can't be used to reset an address that is guessing at others.
+ * State is per node - the default for a single instance; see {@link PostgresLoginRateLimiter} for clusters.
+ */
+@Component
+@ConditionalOnProperty(name = "app.auth.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginRateLimiter implements LoginRateLimiter {
+
+    private final Limit accounts;
+    private final Limit ips;
+
+    public InMemoryLoginRateLimiter(MeterRegistry meterRegistry,
+                            @Value("${app.auth.rate-limit.window-seconds:600}") long windowSeconds,
+                            @Value("${app.auth.rate-limit.account.max-failures:5}") int accountMaxFailures,
+                            @Value("${app.auth.rate-limit.ip.max-failures:50}") int ipMaxFailures,
+                            @Value("${app.auth.rate-limit.capacity:100000}") int capacity,
+                            @Value("${app.auth.rate-limit.stripes:64}") int stripes) {
+        long windowMs = windowSeconds * 1000;
+        this.accounts = new Limit("account", accountMaxFailures, windowMs, capacity, stripes, meterRegistry);
+        this.ips = new Limit("ip", ipMaxFailures, windowMs, capacity, stripes, meterRegistry);
+    }
+
+    @Override
+    public boolean isBlocked(String email, String ip) {
+        long now = System.currentTimeMillis();
+        return ips.isBlocked(ip, now) || accounts.isBlocked(LoginRateLimiter.accountKey(email), now);
+    }
+
+    @Override
+    public void recordFailure(String email, String ip) {
+        long now = System.currentTimeMillis();
+        ips.record(ip, now);
+        accounts.record(LoginRateLimiter.accountKey(email), now);
+    }
+
+    @Override
+    public void reset(String email, String ip) {
+        accounts.clear(LoginRateLimiter.accountKey(email));
+    }
+
+    /**
+     * מנקה מפתחות ששני החלונות שלהם פגו - הזיכרון לא תלוי בכך שאותו מפתח ייבדק שוב
+     */
+    @Scheduled(fixedDelayString = "${app.auth.rate-limit.sweep-ms:60000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        accounts.sweep(now);
+        ips.sweep(now);
+    }
+
+    /**
+     * Sliding-window counters for one dimension (accounts or IPs).
+     */
+    private static final class Limit {
+
+        private final int maxFailures;
+        private final long windowMs;
+        private final Stripe[] stripes;
+        private final Counter evicted;
+
+        Limit(String dimension, int maxFailures, long windowMs, int capacity, int stripeCount, MeterRegistry meterRegistry) {
+            this.maxFailures = maxFailures;
+            this.windowMs = windowMs;
+            this.evicted = meterRegistry.counter("auth.rate-limit.evicted", "dimension", dimension);
+            this.stripes = new Stripe[stripeCount];
+            int perStripe = Math.max(1, capacity / stripeCount);
+            for (int i = 0; i < stripeCount; i++) {
+                stripes[i] = new Stripe(perStripe, evicted);
+            }
+            Gauge.builder("auth.rate-limit.keys", this, Limit::size)
+                .tag("dimension", dimension)
+                .description("Keys currently tracked by the login rate limiter")
+                .register(meterRegistry);
+        }
+
+        boolean isBlocked(String key, long now) {
+            if (key == null || key.isEmpty()) {
+                return false;
+            }
+            Stripe stripe = stripeFor(key);
+            synchronized (stripe) {
+                Window window = stripe.get(key);
+                return window != null && window.estimate(now, windowMs) >= maxFailures;
+            }
+        }
+
+        void record(String key, long now) {
+            if (key == null || key.isEmpty()) {
+                return;
+            }
+            Stripe stripe = stripeFor(key);
+            synchronized (stripe) {
+                stripe.computeIfAbsent(key, k -> new Window()).increment(now, windowMs);
+            }
+        }
+
+        void clear(String key) {
+            if (key == null || key.isEmpty()) {
+                return;
+            }
+            Stripe stripe = stripeFor(key);
+            synchronized (stripe) {
+                stripe.remove(key);
+            }
+        }
+
+        void sweep(long now) {
+            long currentIndex = now / windowMs;
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    stripe.values().removeIf(window -> window.index < currentIndex - 1);
+                }
+            }
+        }
+
+        private int size() {
+            int total = 0;
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    total += stripe.size();
+                }
+            }
+            return total;
+        }
+
+        private Stripe stripeFor(String key) {
+            int h = key.hashCode();
+            return stripes[Math.floorMod(h ^ (h >>> 16), stripes.length)];
+        }
+    }
+
+    /**
+     * Access-ordered map evicting its least recently used key past capacity. Guarded by its own monitor.
+     */
+    private static final class Stripe extends LinkedHashMap<String, Window> {
+
+        private final int capacity;
+        private final Counter evicted;
+
+        Stripe(int capacity, Counter evicted) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evicted = evicted;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Window> eldest) {
+            if (size() > capacity) {
+                evicted.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Failure counts of the current fixed window ({@code index}) and the one before it.
+     */
+    static final class Window {
+
+        long index;
+        int current;
+        int previous;
+
+        void increment(long now, long windowMs) {
+            roll(now / windowMs);
+            current++;
+        }
+
+        double estimate(long now, long windowMs) {
+            roll(now / windowMs);
+            double previousWeight = 1.0 - (double) (now % windowMs) / windowMs;
+            return current + previous * previousWeight;
+        }
+
+        private void roll(long nowIndex) {
+            if (nowIndex == index) {
+                return;
+            }
+            previous = nowIndex == index + 1 ? current : 0;
+            current = 0;
+            index = nowIndex;
+        }
+    }
+}
@@ -1,25 +1,59 @@
 package com.myapp.server.auth.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
 
+/**
+ * Issues and verifies auth tokens.
+ * Verification uses one shared (immutable, thread-safe) parser, and successful results are cached
+ * by SHA-256 of the token until the token's own expiry, so a returning cookie costs a hash and a
+ * map lookup instead of an HMAC check and a JSON parse. Failures are never cached.
+ */
 @Service
 public class JwtService {
     private final SecretKey key;
     private final long ttlSeconds;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    record VerifiedToken(String subject, Instant expiresAt) {}
 
     public JwtService(@Value("${jwt.secret:mySecretKeyThatIsAtLeast32BytesLongForSecureSigning}") String secret, 
-                      @Value("${jwt.ttl:3600}") long ttlSeconds) {
+                      @Value("${jwt.ttl:3600}") long ttlSeconds,
+                      @Value("${app.auth.jwt.cache-size:10000}") long cacheSize,
+                      MeterRegistry meterRegistry) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.ttlSeconds = ttlSeconds;
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(Expiry.<String, VerifiedToken>creating((hash, verified) -> {
+                    Duration remaining = Duration.between(Instant.now(), verified.expiresAt());
+                    return remaining.isNegative() ? Duration.ZERO : remaining;
+                }))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "auth.jwt");
     }
 
     public String generateToken(String subject, Map<String, Object> claims) {
@@ -34,6 +68,48 @@ public class JwtService {
     }
 
     public String getSubject(String token) {
-        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getSubject();
+        String cacheKey = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached.subject();
+        }
+        VerifiedToken verified = verify(token);
+        verifiedTokens.put(cacheKey, verified);
+        return verified.subject();
+    }
+
+    /**
+     * Like {@link #getSubject} but returns null for a missing, malformed, expired or forged token
+     * instead of throwing, for callers where "not signed in" is a normal outcome.
+     */
+    public String findSubject(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            return getSubject(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Full signature check and parse, bypassing the cache.
+     */
+    VerifiedToken verify(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        Date expiration = claims.getExpiration();
+        // Tokens without exp are still only trusted from the cache for one TTL
+        Instant expiresAt = expiration != null ? expiration.toInstant() : Instant.now().plusSeconds(ttlSeconds);
+        return new VerifiedToken(claims.getSubject(), expiresAt);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
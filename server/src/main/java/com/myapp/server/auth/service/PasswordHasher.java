@@ -0,0 +1,154 @@
+package com.myapp.server.auth.service;
+
+import com.myapp.server.common.exception.BusinessRuleViolationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * BCrypt hashing on a small dedicated pool instead of the request threads.
+ * At most {@code threads} hashes run at once and at most {@code queue-capacity} wait; past that the
+ * request fails fast with 503, so a login burst or credential stuffing can't tie up every Tomcat thread.
+ * The cost factor is calibrated at startup to the highest one whose hash fits {@code target-ms}
+ * (within {@code min-cost}..{@code max-cost}), unless {@code cost} pins it. Stored hashes with a lower
+ * cost are upgraded on the next successful login ({@link #needsRehash}); hashes are never downgraded,
+ * so nodes that calibrate differently don't rewrite each other's hashes.
+ * Metrics: {@code auth.password.queue.wait}, {@code auth.password.hash{op}}, {@code auth.password.rejected}.
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final Timer queueWait;
+    private final Timer hashTime;
+    private final Timer verifyTime;
+    private final Counter rejected;
+
+    public PasswordHasher(MeterRegistry meterRegistry,
+                          @Value("${app.auth.hashing.threads:2}") int threads,
+                          @Value("${app.auth.hashing.queue-capacity:50}") int queueCapacity,
+                          @Value("${app.auth.hashing.timeout-ms:5000}") long timeoutMs,
+                          @Value("${app.auth.hashing.cost:0}") int cost,
+                          @Value("${app.auth.hashing.target-ms:250}") long targetMs,
+                          @Value("${app.auth.hashing.min-cost:10}") int minCost,
+                          @Value("${app.auth.hashing.max-cost:14}") int maxCost) {
+        int strength = cost > 0 ? cost : calibrate(targetMs, minCost, maxCost);
+        this.encoder = new BCryptPasswordEncoder(strength);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            Thread.ofPlatform().name("password-hasher-", 0).daemon().factory(),
+            new ThreadPoolExecutor.AbortPolicy());
+        this.timeoutMs = timeoutMs;
+        this.queueWait = Timer.builder("auth.password.queue.wait")
+            .description("Time a password hash waits for a hashing thread")
+            .register(meterRegistry);
+        this.hashTime = Timer.builder("auth.password.hash").tag("op", "hash").register(meterRegistry);
+        this.verifyTime = Timer.builder("auth.password.hash").tag("op", "verify").register(meterRegistry);
+        this.rejected = meterRegistry.counter("auth.password.rejected");
+        Gauge.builder("auth.password.queue.size", executor, e -> e.getQueue().size())
+            .description("Password hashes waiting for a hashing thread")
+            .register(meterRegistry);
+        Gauge.builder("auth.password.cost", () -> strength)
+            .description("BCrypt cost factor used for new hashes")
+            .register(meterRegistry);
+        log.info("BCrypt cost factor {} ({})", strength, cost > 0 ? "configured" : "calibrated to " + targetMs + " ms");
+    }
+
+    public String hash(String rawPassword) {
+        return submit(hashTime, () -> encoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String passwordHash) {
+        return submit(verifyTime, () -> encoder.matches(rawPassword, passwordHash));
+    }
+
+    /**
+     * True when the stored hash uses a lower cost than new hashes do.
+     */
+    public boolean needsRehash(String passwordHash) {
+        return encoder.upgradeEncoding(passwordHash);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private <T> T submit(Timer timer, Callable<T> task) {
+        long queuedAt = System.nanoTime();
+        Future<T> result;
+        try {
+            result = executor.submit(() -> {
+                queueWait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                return timer.recordCallable(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw busy();
+        }
+        try {
+            return result.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            rejected.increment();
+            throw busy();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw busy();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static BusinessRuleViolationException busy() {
+        return new BusinessRuleViolationException(HttpStatus.SERVICE_UNAVAILABLE, "השרת עמוס כרגע. נסה שוב בעוד מספר שניות");
+    }
+
+    /**
+     * Each cost step doubles the work, so one measured hash at {@code minCost} predicts the rest.
+     */
+    private static int calibrate(long targetMs, int minCost, int maxCost) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minCost);
+        probe.encode("calibration-warmup");
+        long start = System.nanoTime();
+        probe.encode("calibration-probe");
+        return costFor((System.nanoTime() - start) / 1_000_000.0, targetMs, minCost, maxCost);
+    }
+
+    /**
+     * Highest cost within minCost..maxCost whose predicted hash time fits targetMs, given the time
+     * measured at minCost.
+     */
+    static int costFor(double probeMs, long targetMs, int minCost, int maxCost) {
+        double elapsedMs = Math.max(1e-3, probeMs);
+        int cost = minCost;
+        while (cost < maxCost && elapsedMs * 2 <= targetMs) {
+            elapsedMs *= 2;
+            cost++;
+        }
+        return cost;
+    }
+}
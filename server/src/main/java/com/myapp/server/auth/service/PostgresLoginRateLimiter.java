@@ -0,0 +1,169 @@
+package com.myapp.server.auth.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.myapp.server.common.cluster.ClusterCoordinator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Cluster-wide failed-login limiter: one token bucket per account and per IP in the UNLOGGED
+ * {@code login_rate_limits} table, so spreading attempts over nodes buys nothing.
+ * A bucket holds {@code max-failures} tokens and refills completely over {@code window-seconds}; each
+ * failure takes one token in a single upsert that refills and debits atomically and returns the balance.
+ * Checks are served from a near-cache of the last known balance (refilled locally by elapsed time) and
+ * go to Postgres only on a miss; a node may therefore miss other nodes' failures for up to
+ * {@code near-cache-ms}. Failures recorded on this node update its cache at once.
+ * If Postgres is unreachable the limiter fails open - login itself needs the database anyway.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.auth.rate-limit.store", havingValue = "postgres")
+public class PostgresLoginRateLimiter implements LoginRateLimiter {
+
+    private static final String ACCOUNT = "account";
+    private static final String IP = "ip";
+
+    private record BucketKey(String dimension, String key) {}
+
+    /**
+     * Token balance as read from Postgres, and when (local monotonic clock).
+     */
+    private record Balance(double tokens, long readAtNanos) {}
+
+    private final JdbcTemplate jdbc;
+    private final ClusterCoordinator clusterCoordinator;
+    private final Cache<BucketKey, Balance> nearCache;
+    private final long windowSeconds;
+    private final int accountMaxFailures;
+    private final int ipMaxFailures;
+
+    public PostgresLoginRateLimiter(JdbcTemplate jdbc,
+                                    ClusterCoordinator clusterCoordinator,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.auth.rate-limit.window-seconds:600}") long windowSeconds,
+                                    @Value("${app.auth.rate-limit.account.max-failures:5}") int accountMaxFailures,
+                                    @Value("${app.auth.rate-limit.ip.max-failures:50}") int ipMaxFailures,
+                                    @Value("${app.auth.rate-limit.capacity:100000}") int capacity,
+                                    @Value("${app.auth.rate-limit.postgres.near-cache-ms:2000}") long nearCacheMs) {
+        this.jdbc = jdbc;
+        this.clusterCoordinator = clusterCoordinator;
+        this.windowSeconds = windowSeconds;
+        this.accountMaxFailures = accountMaxFailures;
+        this.ipMaxFailures = ipMaxFailures;
+        this.nearCache = Caffeine.newBuilder()
+            .maximumSize(capacity)
+            .expireAfterWrite(Duration.ofMillis(nearCacheMs))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, "auth.rate-limit.near");
+    }
+
+    @Override
+    public boolean isBlocked(String email, String ip) {
+        return isBlocked(IP, ip, ipMaxFailures)
+            || isBlocked(ACCOUNT, LoginRateLimiter.accountKey(email), accountMaxFailures);
+    }
+
+    @Override
+    public void recordFailure(String email, String ip) {
+        take(IP, ip, ipMaxFailures);
+        take(ACCOUNT, LoginRateLimiter.accountKey(email), accountMaxFailures);
+    }
+
+    @Override
+    public void reset(String email, String ip) {
+        String account = LoginRateLimiter.accountKey(email);
+        if (account == null || account.isEmpty()) {
+            return;
+        }
+        try {
+            jdbc.update("DELETE FROM public.login_rate_limits WHERE dimension = ? AND key = ?", ACCOUNT, account);
+        } catch (DataAccessException e) {
+            log.warn("Could not reset login rate limit: {}", e.getMessage());
+        }
+        nearCache.invalidate(new BucketKey(ACCOUNT, account));
+    }
+
+    /**
+     * מוחק דליים שהתמלאו מחדש במלואם (ללא כישלון במשך חלון שלם) - רץ רק על ה-leader
+     */
+    @Scheduled(fixedDelayString = "${app.auth.rate-limit.sweep-ms:60000}")
+    public void sweep() {
+        clusterCoordinator.runIfLeader("sweep-login-rate-limits", () ->
+            jdbc.update("DELETE FROM public.login_rate_limits WHERE updated_at < now() - make_interval(secs => ?)",
+                (double) windowSeconds));
+    }
+
+    private boolean isBlocked(String dimension, String key, int maxFailures) {
+        if (key == null || key.isEmpty()) {
+            return false;
+        }
+        BucketKey bucket = new BucketKey(dimension, key);
+        Balance balance = nearCache.getIfPresent(bucket);
+        if (balance == null) {
+            try {
+                balance = new Balance(load(bucket, maxFailures), System.nanoTime());
+            } catch (DataAccessException e) {
+                log.warn("Could not read login rate limit: {}", e.getMessage());
+                return false;
+            }
+            nearCache.put(bucket, balance);
+        }
+        return current(balance, maxFailures) < 1;
+    }
+
+    private void take(String dimension, String key, int maxFailures) {
+        if (key == null || key.isEmpty()) {
+            return;
+        }
+        BucketKey bucket = new BucketKey(dimension, key);
+        double refillPerSecond = (double) maxFailures / windowSeconds;
+        try {
+            Double tokens = jdbc.queryForObject("""
+                INSERT INTO public.login_rate_limits (dimension, key, tokens, updated_at)
+                VALUES (?, ?, ? - 1, now())
+                ON CONFLICT (dimension, key) DO UPDATE
+                SET tokens = GREATEST(0, LEAST(?, login_rate_limits.tokens
+                                 + EXTRACT(EPOCH FROM now() - login_rate_limits.updated_at) * ?) - 1),
+                    updated_at = now()
+                RETURNING tokens
+            """, Double.class, dimension, key, (double) maxFailures, (double) maxFailures, refillPerSecond);
+            nearCache.put(bucket, new Balance(tokens, System.nanoTime()));
+        } catch (DataAccessException e) {
+            log.warn("Could not record login failure: {}", e.getMessage());
+        }
+    }
+
+    private double load(BucketKey bucket, int maxFailures) {
+        List<Double> rows = jdbc.queryForList("""
+            SELECT tokens + EXTRACT(EPOCH FROM now() - updated_at) * ?
+            FROM public.login_rate_limits
+            WHERE dimension = ? AND key = ?
+        """, Double.class, (double) maxFailures / windowSeconds, bucket.dimension(), bucket.key());
+        return rows.isEmpty() ? maxFailures : Math.min(maxFailures, rows.get(0));
+    }
+
+    private double current(Balance balance, int maxFailures) {
+        double elapsedSeconds = (System.nanoTime() - balance.readAtNanos()) / 1_000_000_000.0;
+        return refill(balance.tokens(), elapsedSeconds, maxFailures, windowSeconds);
+    }
+
+    /**
+     * Balance after elapsedSeconds of refill: a full bucket (maxFailures tokens) per windowSeconds,
+     * never above maxFailures - the same formula the upsert applies in SQL.
+     */
+    static double refill(double tokens, double elapsedSeconds, int maxFailures, long windowSeconds) {
+        return Math.min(maxFailures, tokens + elapsedSeconds * maxFailures / windowSeconds);
+    }
+}
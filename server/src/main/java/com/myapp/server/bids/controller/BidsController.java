@@ -1,51 +1,80 @@
 package com.myapp.server.bids.controller;
 
+import com.myapp.server.bids.service.AuctionPageService;
 import com.myapp.server.bids.service.BidsService;
 import com.myapp.server.bids.dto.UserBidSummaryItem;
-import com.myapp.server.common.auth.JwtTokenExtractor;
+import com.myapp.server.bids.dto.UserBidSummaryPage;
+import com.myapp.server.common.auth.CurrentUser;
+import com.myapp.server.common.web.JsonStreamWriter;
+import com.myapp.server.common.web.PageCursor;
+import com.myapp.server.common.web.WireFormats;
 import java.util.List;
+import com.myapp.server.bids.dto.AuctionPageResponse;
 import com.myapp.server.bids.dto.PlaceBidRequest;
 import com.myapp.server.bids.dto.PlaceBidResponse;
-import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
 public class BidsController {
 
     private final BidsService service;
-    private final JwtTokenExtractor jwtTokenExtractor;
+    private final AuctionPageService auctionPageService;
+    private final JsonStreamWriter jsonStreamWriter;
+    private final WireFormats wireFormats;
 
     @PostMapping("/api/auctions/{auctionId}/bids")
     @ResponseStatus(HttpStatus.CREATED)
     public PlaceBidResponse placeBid(@PathVariable long auctionId,
                                      @Valid @RequestBody PlaceBidRequest req,
-                                     HttpServletRequest request) {
-        Long currentUserId = jwtTokenExtractor.getCurrentUserId(request);
-        if (currentUserId == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication required");
-        }
+                                     @CurrentUser Long currentUserId) {
         return service.placeBid(auctionId, req, currentUserId);
     }
 
     @GetMapping("/api/auctions/{auctionId}/bids/history")
-    public List<BidsService.BidHistoryItem> getHistory(@PathVariable long auctionId) {
-        return service.getHistory(auctionId);
+    public ResponseEntity<StreamingResponseBody> getHistory(@PathVariable long auctionId,
+                                                            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        MediaType format = wireFormats.negotiate(accept);
+        // Written chunk by chunk as it is read; the full history is never built
+        return ResponseEntity.ok()
+                .contentType(format)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .body(jsonStreamWriter.array(format, sink -> service.streamHistory(auctionId, sink)));
+    }
+
+    /**
+     * Everything the auction page needs in a single request: detail, the latest history entries
+     * and (when signed in) the caller's max, leading flag and minimum next bid.
+     */
+    @GetMapping("/api/auctions/{auctionId}/page")
+    public AuctionPageResponse getAuctionPage(@PathVariable long auctionId,
+                                              @RequestParam(defaultValue = "10") int history,
+                                              @CurrentUser(required = false) Long currentUserId) {
+        int historyLimit = Math.max(1, Math.min(history, 50));
+        return auctionPageService.getAuctionPage(auctionId, currentUserId, historyLimit);
     }
 
+    /**
+     * Keyset-paginated: pass the previous response's X-Next-Cursor header as ?cursor= for the next page
+     * (no header on the last page).
+     */
     @GetMapping("/api/bids/my/summary")
-    public ResponseEntity<List<UserBidSummaryItem>> getCurrentUserBidsSummary(HttpServletRequest request) {
-        Long currentUserId = jwtTokenExtractor.getCurrentUserId(request);
-        if (currentUserId == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Authentication required");
+    public ResponseEntity<List<UserBidSummaryItem>> getCurrentUserBidsSummary(@RequestParam(required = false) String cursor,
+                                                                              @RequestParam(defaultValue = "100") int limit,
+                                                                              @CurrentUser Long currentUserId) {
+        UserBidSummaryPage page = service.getUserBidsSummary(currentUserId, PageCursor.decode(cursor), Math.max(1, Math.min(limit, 100)));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(PageCursor.HEADER, page.nextCursor().encode());
         }
-        List<UserBidSummaryItem> bids = service.getUserBidsSummary(currentUserId);
-        return ResponseEntity.ok(bids);
+        return response.body(page.items());
     }
 
 }
@@ -0,0 +1,12 @@
+package com.myapp.server.bids.dto;
+
+import com.myapp.server.auctions.dto.AuctionDetail;
+import com.myapp.server.bids.service.BidsService;
+
+import java.util.List;
+
+public record AuctionPageResponse(
+        AuctionDetail auction,
+        List<BidsService.BidHistoryItem> recentBids,  // N האחרונות, מהישנה לחדשה
+        CallerBidState you                            // null למשתמש לא מחובר
+) {}
@@ -0,0 +1,9 @@
+package com.myapp.server.bids.dto;
+
+import java.math.BigDecimal;
+
+public record CallerBidState(
+        BigDecimal yourMax,        // null אם המשתמש עוד לא הציע
+        boolean leading,
+        BigDecimal minNextBid      // המינימום שהמשתמש יכול להציע עכשיו
+) {}
@@ -0,0 +1,14 @@
+package com.myapp.server.bids.dto;
+
+import com.myapp.server.common.web.PageCursor;
+
+import java.util.List;
+
+/**
+ * One page of the caller's bid summary; nextCursor is null on the last page.
+ */
+public record UserBidSummaryPage(
+    List<UserBidSummaryItem> items,
+    PageCursor nextCursor
+) {
+}
@@ -14,6 +14,7 @@ public class BidsDao {
     // Package-private helpers - not Spring beans to avoid circular dependencies
     private final BidsJdbcReadHistory historyOps;
     private final BidsJdbcUserSummaries userSummariesOps;
+    private final BidsJdbcUserBidState userBidStateOps;
     private final BidsJdbcWriteOps writeOps;
     private final AuctionLockingJdbcOps lockingOps;
     
@@ -23,6 +24,7 @@ public class BidsDao {
         BidsRowMappers mappers = new BidsRowMappers();
         this.historyOps = new BidsJdbcReadHistory(jdbc);
         this.userSummariesOps = new BidsJdbcUserSummaries(jdbc);
+        this.userBidStateOps = new BidsJdbcUserBidState(jdbc);
         this.writeOps = new BidsJdbcWriteOps(jdbc, namedJdbc);
         this.lockingOps = new AuctionLockingJdbcOps(jdbc, mappers);
     }
@@ -39,18 +41,26 @@ public class BidsDao {
     public int updateUserMax(long auctionId, long bidderId, BigDecimal maxBid) { return writeOps.updateUserMax(auctionId, bidderId, maxBid); }
     public Long getExistingBidId(long auctionId, long bidderId) { return writeOps.getExistingBidId(auctionId, bidderId); }
 
-    public void updateAuctionAfterBid(long auctionId, long highestUserId, BigDecimal highestMaxBid, BigDecimal current) { writeOps.updateAuctionAfterBid(auctionId, highestUserId, highestMaxBid, current); }
+    public OffsetDateTime updateAuctionAfterBid(long auctionId, long highestUserId, BigDecimal highestMaxBid, BigDecimal current) { return writeOps.updateAuctionAfterBid(auctionId, highestUserId, highestMaxBid, current); }
 
     // === HISTORY OPERATIONS ===
     
     public void insertBidSnapshot(long auctionId, long bidId, long actorUserId, BigDecimal displayedBid, String kind, String bidType, OffsetDateTime when) { historyOps.insertBidSnapshot(auctionId, bidId, actorUserId, displayedBid, kind, bidType, when); }
     public List<HistoryRow> getBidHistory(long auctionId) { return historyOps.getBidHistory(auctionId); }
+    public List<HistoryRow> getBidHistoryChunk(long auctionId, OffsetDateTime afterTime, Long afterId, int limit) { return historyOps.getBidHistoryChunk(auctionId, afterTime, afterId, limit); }
     public int countBidHistorySnapshots(long auctionId) { return historyOps.countBidHistorySnapshots(auctionId); }
+    public AuctionPageStateRow getAuctionPageState(long auctionId, Long userId, int historyLimit) { return historyOps.getAuctionPageState(auctionId, userId, historyLimit); }
 
     // === USER SUMMARIES ===
     
     public List<TopBidRow> getTopBids(long auctionId, int limit) { return userSummariesOps.getTopBids(auctionId, limit); }
-    public List<UserBidSummaryRow> getUserBidsSummary(Long userId) { return userSummariesOps.getUserBidsSummary(userId); }
+
+    // === PER-USER BID STATE ===
+    
+    public void upsertUserBidState(long auctionId, long bidderId, BigDecimal maxBid, boolean leading) { userBidStateOps.upsertBidderState(auctionId, bidderId, maxBid, leading); }
+    public void markUserOutbid(long auctionId, long userId) { userBidStateOps.markOutbid(auctionId, userId); }
+    public int markUserBidStatesEnded(List<Long> auctionIds) { return userBidStateOps.markEnded(auctionIds); }
+    public List<UserBidSummaryRow> getUserBidsSummaryPage(long userId, OffsetDateTime afterEndDate, Long afterAuctionId, int limit) { return userBidStateOps.getUserBidsSummaryPage(userId, afterEndDate, afterAuctionId, limit); }
 
     // === TYPE ALIASES FOR BACKWARD COMPATIBILITY ===
     // Re-export record types so existing services don't break
@@ -64,6 +74,16 @@ public class BidsDao {
             String bidType
     ) {}
 
+    public record AuctionPageStateRow(
+            Long highestUserId,
+            BigDecimal callerMax,
+            BigDecimal currentBid,
+            BigDecimal minPrice,
+            BigDecimal bidIncrement,
+            int bidsCount,
+            List<HistoryRow> recentHistory
+    ) {}
+
     public record TopBidRow(
             long userId,
             BigDecimal maxBid,
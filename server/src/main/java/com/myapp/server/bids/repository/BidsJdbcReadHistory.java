@@ -3,7 +3,10 @@ package com.myapp.server.bids.repository;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -17,14 +20,38 @@ class BidsJdbcReadHistory {
         this.jdbc = jdbc;
     }
 
+    private static final String HISTORY_SQL = """
+            SELECT s.id as snapshot_id, s.bid_id, s.displayed_bid, s.snapshot_time,
+               s.actor_user_id, s.kind, s.bid_type
+            FROM public.bid_history_snapshots s
+            WHERE s.auction_id = ?
+            ORDER BY s.snapshot_time ASC, s.id ASC
+        """;
+
     List<BidsDao.HistoryRow> getBidHistory(long auctionId) {
+        return jdbc.query(HISTORY_SQL, (rs, rn) -> mapHistoryRow(rs), auctionId);
+    }
+
+    /**
+     * Up to limit history rows strictly after (afterTime, afterId) in history order; both null for
+     * the first chunk. Each call is its own short query, so nothing stays open between chunks.
+     */
+    List<BidsDao.HistoryRow> getBidHistoryChunk(long auctionId, OffsetDateTime afterTime, Long afterId, int limit) {
+        if (afterTime == null) {
+            return jdbc.query(HISTORY_SQL + " LIMIT ?", (rs, rn) -> mapHistoryRow(rs), auctionId, limit);
+        }
         return jdbc.query("""
             SELECT s.id as snapshot_id, s.bid_id, s.displayed_bid, s.snapshot_time,
                s.actor_user_id, s.kind, s.bid_type
             FROM public.bid_history_snapshots s
-            WHERE s.auction_id = ?
+            WHERE s.auction_id = ? AND (s.snapshot_time, s.id) > (?, ?)
             ORDER BY s.snapshot_time ASC, s.id ASC
-        """, (rs, rn) -> new BidsDao.HistoryRow(
+            LIMIT ?
+        """, (rs, rn) -> mapHistoryRow(rs), auctionId, afterTime, afterId, limit);
+    }
+
+    private BidsDao.HistoryRow mapHistoryRow(ResultSet rs) throws SQLException {
+        return new BidsDao.HistoryRow(
             rs.getLong("snapshot_id"),
             rs.getLong("bid_id"),
             rs.getLong("actor_user_id"),
@@ -32,7 +59,51 @@ class BidsJdbcReadHistory {
             rs.getObject("snapshot_time", OffsetDateTime.class),
             rs.getString("kind"),
             rs.getString("bid_type")
-        ), auctionId);
+        );
+    }
+
+    /**
+     * Auction page state in one round trip: the latest history entries (returned oldest first),
+     * the caller's own max bid, the current leader and the pricing fields the caller's minimum is
+     * computed from (read together, so the minimum and the leading flag describe the same state).
+     * Laterals keep a single row even with no history.
+     */
+    BidsDao.AuctionPageStateRow getAuctionPageState(long auctionId, Long userId, int historyLimit) {
+        List<BidsDao.AuctionPageStateRow> state = new ArrayList<>(1);
+        List<BidsDao.HistoryRow> history = new ArrayList<>(historyLimit);
+        jdbc.query("""
+            SELECT a.highest_user_id, a.current_bid_amount, a.min_price, a.bid_increment, a.bids_count,
+                   me.max_bid AS caller_max,
+                   h.snapshot_id, h.bid_id, h.displayed_bid, h.snapshot_time, h.actor_user_id, h.kind, h.bid_type
+            FROM public.auctions a
+            LEFT JOIN LATERAL (
+                SELECT b.max_bid FROM public.bids b
+                WHERE b.auction_id = a.id AND b.bidder_id = ?
+                ORDER BY b.id DESC
+                LIMIT 1
+            ) me ON true
+            LEFT JOIN LATERAL (
+                SELECT s.id as snapshot_id, s.bid_id, s.displayed_bid, s.snapshot_time,
+                   s.actor_user_id, s.kind, s.bid_type
+                FROM public.bid_history_snapshots s
+                WHERE s.auction_id = a.id
+                ORDER BY s.snapshot_time DESC, s.id DESC
+                LIMIT ?
+            ) h ON true
+            WHERE a.id = ?
+            ORDER BY h.snapshot_time ASC, h.snapshot_id ASC
+        """, rs -> {
+            if (state.isEmpty()) {
+                Long highestUserId = rs.getObject("highest_user_id") == null ? null : rs.getLong("highest_user_id");
+                state.add(new BidsDao.AuctionPageStateRow(highestUserId, rs.getBigDecimal("caller_max"),
+                    rs.getBigDecimal("current_bid_amount"), rs.getBigDecimal("min_price"),
+                    rs.getBigDecimal("bid_increment"), rs.getInt("bids_count"), history));
+            }
+            if (rs.getObject("snapshot_id") != null) {
+                history.add(mapHistoryRow(rs));
+            }
+        }, userId, historyLimit, auctionId);
+        return state.isEmpty() ? null : state.get(0);
     }
 
     void insertBidSnapshot(long auctionId, long bidId, long actorUserId, BigDecimal displayedBid, String kind, String bidType, OffsetDateTime when) {
@@ -0,0 +1,82 @@
+package com.myapp.server.bids.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Package-private helper for the per-user bidding summary table.
+ * {@code user_auction_bid_state} has one row per (user, auction), kept current by bid placement
+ * (max and leading flag) and by closing (status), so the summary is a range read on
+ * (user_id, end_date DESC, auction_id DESC) instead of an aggregate over all the user's bids.
+ */
+class BidsJdbcUserBidState {
+
+    private static final String PAGE_SELECT = """
+        SELECT s.auction_id, a.title AS auction_title, a.current_bid_amount AS current_price,
+               s.your_max, s.end_date, s.leading, s.status
+        FROM public.user_auction_bid_state s
+        JOIN public.auctions a ON a.id = s.auction_id
+        WHERE s.user_id = ?
+    """;
+
+    private static final RowMapper<BidsDao.UserBidSummaryRow> SUMMARY_ROW = (rs, rowNum) -> new BidsDao.UserBidSummaryRow(
+        rs.getLong("auction_id"),
+        rs.getString("auction_title"),
+        rs.getBigDecimal("current_price"),
+        rs.getBigDecimal("your_max"),
+        rs.getObject("end_date", OffsetDateTime.class),
+        rs.getBoolean("leading"),
+        rs.getString("status")
+    );
+
+    private final JdbcTemplate jdbc;
+
+    BidsJdbcUserBidState(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    void upsertBidderState(long auctionId, long bidderId, BigDecimal maxBid, boolean leading) {
+        jdbc.update("""
+            INSERT INTO public.user_auction_bid_state (user_id, auction_id, end_date, your_max, leading, status, updated_at)
+            SELECT ?, a.id, a.end_date, ?, ?, 'active', now()
+            FROM public.auctions a
+            WHERE a.id = ?
+            ON CONFLICT (user_id, auction_id) DO UPDATE
+            SET your_max = EXCLUDED.your_max,
+                leading = EXCLUDED.leading,
+                updated_at = now()
+        """, bidderId, maxBid, leading, auctionId);
+    }
+
+    void markOutbid(long auctionId, long userId) {
+        jdbc.update("""
+            UPDATE public.user_auction_bid_state
+            SET leading = false, updated_at = now()
+            WHERE user_id = ? AND auction_id = ?
+        """, userId, auctionId);
+    }
+
+    int markEnded(List<Long> auctionIds) {
+        return jdbc.update("""
+            UPDATE public.user_auction_bid_state
+            SET status = 'ended', updated_at = now()
+            WHERE auction_id = ANY(?) AND status = 'active'
+        """, ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", auctionIds.toArray())));
+    }
+
+    /**
+     * One page of the user's summary, newest end date first; afterEndDate/afterAuctionId null for the first page.
+     */
+    List<BidsDao.UserBidSummaryRow> getUserBidsSummaryPage(long userId, OffsetDateTime afterEndDate, Long afterAuctionId, int limit) {
+        if (afterEndDate == null) {
+            return jdbc.query(PAGE_SELECT + " ORDER BY s.end_date DESC, s.auction_id DESC LIMIT ?",
+                SUMMARY_ROW, userId, limit);
+        }
+        return jdbc.query(PAGE_SELECT + " AND (s.end_date, s.auction_id) < (?, ?) ORDER BY s.end_date DESC, s.auction_id DESC LIMIT ?",
+            SUMMARY_ROW, userId, afterEndDate, afterAuctionId, limit);
+    }
+}
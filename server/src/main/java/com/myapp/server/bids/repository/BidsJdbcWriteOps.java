@@ -58,8 +58,11 @@ class BidsJdbcWriteOps {
             """, rs -> rs.next() ? rs.getLong(1) : null, auctionId, bidderId);
     }
 
-    void updateAuctionAfterBid(long auctionId, long highestUserId, BigDecimal highestMaxBid, BigDecimal current) {
-        namedJdbc.update("""
+    /**
+     * Returns the new updated_at (transaction time), the auction's version as committed.
+     */
+    OffsetDateTime updateAuctionAfterBid(long auctionId, long highestUserId, BigDecimal highestMaxBid, BigDecimal current) {
+        return namedJdbc.queryForObject("""
             UPDATE public.auctions
             SET current_bid_amount = :cur,
                 highest_user_id = :uid,
@@ -67,10 +70,11 @@ class BidsJdbcWriteOps {
                 bids_count = (SELECT COUNT(*) FROM public.bid_history_snapshots WHERE auction_id = :id),
                 updated_at = now()
             WHERE id = :id
+            RETURNING updated_at
         """, new MapSqlParameterSource()
                 .addValue("id", auctionId)
                 .addValue("uid", highestUserId)
                 .addValue("maxBid", highestMaxBid)
-                .addValue("cur", current));
+                .addValue("cur", current), (rs, rn) -> rs.getObject(1, OffsetDateTime.class));
     }
 }
@@ -0,0 +1,56 @@
+package com.myapp.server.bids.service;
+
+import com.myapp.server.auctions.dto.AuctionDetail;
+import com.myapp.server.auctions.service.AuctionService;
+import com.myapp.server.bids.dto.AuctionPageResponse;
+import com.myapp.server.bids.dto.CallerBidState;
+import com.myapp.server.bids.repository.BidsDao;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Assembles everything the auction page needs in one call: the detail (from the detail cache),
+ * the latest history entries and the caller's own bid state (one DB round trip).
+ */
+@Service
+@RequiredArgsConstructor
+public class AuctionPageService {
+
+    private final AuctionService auctionService;
+    private final BidQueryService bidQueryService;
+    private final BidsMapper bidsMapper;
+    private final BiddingPolicy biddingPolicy;
+
+    public AuctionPageResponse getAuctionPage(long auctionId, Long currentUserId, int historyLimit) {
+        // Throws NOT_FOUND for unknown auctions before touching the bids tables
+        AuctionDetail detail = auctionService.findAuctionDetailAnyStatus(auctionId);
+        BidsDao.AuctionPageStateRow state = bidQueryService.getAuctionPageState(auctionId, currentUserId, historyLimit);
+
+        List<BidsService.BidHistoryItem> recentBids = state == null
+                ? List.of()
+                : bidsMapper.toBidHistoryItems(state.recentHistory());
+        CallerBidState you = currentUserId == null ? null : toCallerState(state, currentUserId);
+        return new AuctionPageResponse(detail, recentBids, you);
+    }
+
+    /**
+     * Caller state from the page-state row only (not the cached detail, which may lag), applying the
+     * same rules as BidPlacementService.placeBid.
+     */
+    private CallerBidState toCallerState(BidsDao.AuctionPageStateRow state, Long userId) {
+        if (state == null) {
+            return new CallerBidState(null, false, null);
+        }
+        BigDecimal yourMax = state.callerMax();
+        boolean leading = userId.equals(state.highestUserId());
+        BigDecimal challengerMin = biddingPolicy.calculateMinBidForChallenger(
+                state.currentBid(), state.minPrice(), state.bidIncrement(), state.bidsCount());
+        BigDecimal minNextBid = leading && yourMax != null && state.bidsCount() > 0
+                ? biddingPolicy.calculateMinBidForLeader(yourMax, challengerMin)
+                : challengerMin;
+        return new CallerBidState(yourMax, leading, minNextBid);
+    }
+}
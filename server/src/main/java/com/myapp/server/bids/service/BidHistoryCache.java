@@ -0,0 +1,81 @@
+package com.myapp.server.bids.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.myapp.server.auctions.event.AuctionPriceChangedEvent;
+import com.myapp.server.auctions.event.AuctionsClosedEvent;
+import com.myapp.server.auctions.event.RemoteAuctionChangesEvent;
+import com.myapp.server.auctions.hot.HotAuctionCache;
+import com.myapp.server.auctions.hot.HotAuctionTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Full bid history for hot auctions only. Everything else is read per request;
+ * a hot auction's history is read by many viewers at once, so it is loaded once and shared.
+ * Membership follows the tracker's hot set (reloaded every prewarm cycle while hot, dropped when it
+ * cools) and an entry is invalidated after each committed bid, here or on another node, the next
+ * reader reloading it once for everybody.
+ */
+@Component
+public class BidHistoryCache implements HotAuctionCache {
+
+    private final BidQueryService bidQueryService;
+    private final HotAuctionTracker hotAuctionTracker;
+    private final Cache<Long, List<BidsService.BidHistoryItem>> cache;
+
+    public BidHistoryCache(BidQueryService bidQueryService, HotAuctionTracker hotAuctionTracker, MeterRegistry meterRegistry) {
+        this.bidQueryService = bidQueryService;
+        this.hotAuctionTracker = hotAuctionTracker;
+        // Only hot auctions are ever admitted, so the hot set bounds the size
+        this.cache = Caffeine.newBuilder()
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "bids.history");
+    }
+
+    /**
+     * Cached history when the auction is hot, otherwise null (caller should read from the DB).
+     */
+    public List<BidsService.BidHistoryItem> getIfHot(long auctionId) {
+        if (!hotAuctionTracker.isHot(auctionId)) {
+            return null;
+        }
+        return cache.get(auctionId, bidQueryService::getHistory);
+    }
+
+    @Override
+    public void pinAndWarm(Set<Long> hot, Set<Long> cooled) {
+        cache.invalidateAll(cooled);
+        for (Long id : hot) {
+            // Reload even when present, so a missed invalidation costs at most one cycle; compute keeps
+            // a concurrent bid's invalidation from being overwritten by a history read before it
+            cache.asMap().compute(id, (key, cached) -> bidQueryService.getHistory(key));
+        }
+    }
+
+    @TransactionalEventListener
+    public void onPriceChanged(AuctionPriceChangedEvent event) {
+        cache.invalidate(event.auctionId());
+    }
+
+    @TransactionalEventListener
+    public void onAuctionsClosed(AuctionsClosedEvent event) {
+        cache.invalidateAll(event.auctionIds());
+    }
+
+    @EventListener
+    public void onRemoteChanges(RemoteAuctionChangesEvent event) {
+        if (event.all()) {
+            cache.invalidateAll();
+        } else {
+            cache.invalidateAll(event.auctionIds());
+        }
+    }
+}
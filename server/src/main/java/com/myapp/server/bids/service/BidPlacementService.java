@@ -1,9 +1,13 @@
 package com.myapp.server.bids.service;
 
+import com.myapp.server.auctions.event.AuctionPriceChangedEvent;
+import com.myapp.server.auctions.event.BidderOutbidEvent;
 import com.myapp.server.bids.dto.PlaceBidRequest;
 import com.myapp.server.bids.dto.PlaceBidResponse;
 import com.myapp.server.bids.repository.BidsDao;
+import com.myapp.server.common.outbox.OutboxWriter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +25,8 @@ public class BidPlacementService {
     
     private final BidsDao dao;
     private final BiddingPolicy biddingPolicy;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxWriter outboxWriter;
     
     @Transactional
     public PlaceBidResponse placeBid(long auctionId, PlaceBidRequest req, Long currentUserId) {
@@ -92,13 +98,35 @@ public class BidPlacementService {
                                 leaderUserId, leaderMax, runnerUserId, runnerMax, newCurrent, now);
         
         // 5) Update auction state
-        dao.updateAuctionAfterBid(auctionId, 
+        OffsetDateTime version = dao.updateAuctionAfterBid(auctionId, 
                                 leaderUserId != null ? leaderUserId : bidderId, 
                                 leaderMax != null ? leaderMax : maxBid, 
                                 newCurrent);
         
+        // 5b) Per-user summary rows: the bidder's max/leading flag, and the previous leader if overtaken
+        Long previousLeader = auction.highestUserId();
+        boolean leadChanged = previousLeader != null && leaderUserId != null && !previousLeader.equals(leaderUserId);
+        dao.upsertUserBidState(auctionId, bidderId, maxBid, leaderUserId == null || leaderUserId.equals(bidderId));
+        if (leadChanged) {
+            dao.markUserOutbid(auctionId, previousLeader);
+        }
+        
         // 6) Build response
-        return buildPlaceBidResponse(auctionId, bidderId, leaderUserId, newCurrent, auction);
+        PlaceBidResponse response = buildPlaceBidResponse(auctionId, bidderId, leaderUserId, newCurrent, auction);
+        
+        // 7) Announce the new public state: local caches react after commit, everything else
+        //    goes through the outbox so it never runs inside this (row-locked) transaction
+        var priceChanged = new AuctionPriceChangedEvent(
+            auctionId, response.currentPrice(), response.bidsCount(), response.highestUserId(), response.endsAt(), version);
+        eventPublisher.publishEvent(priceChanged);
+        outboxWriter.append(priceChanged, auctionId);
+        
+        // 8) The previous leader lost the lead - notify them (delivered from the outbox, never from here)
+        if (leadChanged) {
+            outboxWriter.append(new BidderOutbidEvent(auctionId, previousLeader, newCurrent, now), auctionId);
+        }
+        
+        return response;
     }
     
     private void createBidHistorySnapshots(long auctionId, Long bidId, Long bidderId, BigDecimal maxBid,
@@ -1,6 +1,8 @@
 package com.myapp.server.bids.service;
 
+import com.myapp.server.bids.dto.UserBidSummaryPage;
 import com.myapp.server.bids.repository.BidsDao;
+import com.myapp.server.common.web.PageCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,10 +30,37 @@ public class BidQueryService {
     }
     
     /**
-     * Gets summary of user's bids across all auctions.
+     * Up to limit history items after the given one (null for the first chunk), in history order.
+     * Runs in its own short transaction; the connection is back in the pool when it returns.
      */
-    public List<com.myapp.server.bids.dto.UserBidSummaryItem> getUserBidsSummary(Long userId) {
-        List<BidsDao.UserBidSummaryRow> rows = dao.getUserBidsSummary(userId);
-        return bidsMapper.toUserBidSummaryItems(rows);
+    public List<BidsService.BidHistoryItem> getHistoryChunk(long auctionId, BidsService.BidHistoryItem after, int limit) {
+        var rows = dao.getBidHistoryChunk(auctionId, after != null ? after.snapshotTime() : null,
+            after != null ? after.snapshotId() : null, limit);
+        return bidsMapper.toBidHistoryItems(rows);
+    }
+    
+    /**
+     * Latest history entries plus the caller's max and the current leader, in one query.
+     * userId may be null (anonymous caller).
+     */
+    public BidsDao.AuctionPageStateRow getAuctionPageState(long auctionId, Long userId, int historyLimit) {
+        return dao.getAuctionPageState(auctionId, userId, historyLimit);
+    }
+    
+    /**
+     * One page of the user's bids across all auctions, newest end date first.
+     * after is the previous page's cursor (null for the first page).
+     */
+    public UserBidSummaryPage getUserBidsSummary(Long userId, PageCursor after, int limit) {
+        // One extra row tells whether another page exists
+        List<BidsDao.UserBidSummaryRow> rows = dao.getUserBidsSummaryPage(userId,
+            after != null ? after.sortKey() : null, after != null ? after.id() : null, limit + 1);
+        PageCursor next = null;
+        if (rows.size() > limit) {
+            rows = rows.subList(0, limit);
+            BidsDao.UserBidSummaryRow last = rows.get(limit - 1);
+            next = new PageCursor(last.endDate(), last.auctionId());
+        }
+        return new UserBidSummaryPage(bidsMapper.toUserBidSummaryItems(rows), next);
     }
 }
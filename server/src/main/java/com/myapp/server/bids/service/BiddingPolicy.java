@@ -6,6 +6,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.time.OffsetDateTime;
 
 /**
  * Pure business logic for bid calculations and validations.
@@ -24,6 +25,14 @@ public class BiddingPolicy {
         return currentBid.add(bidIncrement);
     }
     
+    /**
+     * Calculates the minimum a current leader may raise their max to: strictly above their previous max
+     * (one unit of its last decimal place) and at least the challenger minimum - placement checks both.
+     */
+    public BigDecimal calculateMinBidForLeader(BigDecimal previousMax, BigDecimal challengerMin) {
+        return previousMax.add(previousMax.ulp()).max(challengerMin);
+    }
+    
     /**
      * Calculates the new current price using second-price auction rules.
      */
@@ -91,6 +100,14 @@ public class BiddingPolicy {
             );
         }
         
+        // Status flips at end time, but a bid can race the closer by a few ms
+        if (auction.endDate() != null && !auction.endDate().isAfter(OffsetDateTime.now())) {
+            throw new BusinessRuleViolationException(
+                HttpStatus.CONFLICT, 
+                "המכרז הסתיים"
+            );
+        }
+        
         if (bidderId.equals(auction.sellerId())) {
             throw new BusinessRuleViolationException(
                 HttpStatus.FORBIDDEN, 
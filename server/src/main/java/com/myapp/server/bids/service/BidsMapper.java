@@ -17,18 +17,25 @@ public class BidsMapper {
      */
     public List<BidsService.BidHistoryItem> toBidHistoryItems(List<BidsDao.HistoryRow> rows) {
         return rows.stream()
-                .map(row -> new BidsService.BidHistoryItem(
-                        row.snapshotId(),
-                        row.bidId(),
-                        row.bidderId(),
-                        row.displayedBid(),
-                        row.snapshotTime(),
-                        row.kind(),
-                        row.bidType()
-                ))
+                .map(this::toBidHistoryItem)
                 .toList();
     }
     
+    /**
+     * Converts a single DAO bid history row to its DTO.
+     */
+    public BidsService.BidHistoryItem toBidHistoryItem(BidsDao.HistoryRow row) {
+        return new BidsService.BidHistoryItem(
+                row.snapshotId(),
+                row.bidId(),
+                row.bidderId(),
+                row.displayedBid(),
+                row.snapshotTime(),
+                row.kind(),
+                row.bidType()
+        );
+    }
+    
     /**
      * Converts DAO user bid summary rows to DTOs.
      */
@@ -2,23 +2,35 @@ package com.myapp.server.bids.service;
 
 import com.myapp.server.bids.dto.PlaceBidRequest;
 import com.myapp.server.bids.dto.PlaceBidResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Facade service for bid operations.
  * Delegates to specialized services for clear separation of concerns.
  */
 @Service
-@RequiredArgsConstructor
 public class BidsService {
 
     private final BidPlacementService bidPlacementService;
     private final BidQueryService bidQueryService;
+    private final BidHistoryCache bidHistoryCache;
+    private final int historyChunkSize;
+
+    public BidsService(BidPlacementService bidPlacementService,
+                       BidQueryService bidQueryService,
+                       BidHistoryCache bidHistoryCache,
+                       @Value("${app.bids.history-chunk-size:500}") int historyChunkSize) {
+        this.bidPlacementService = bidPlacementService;
+        this.bidQueryService = bidQueryService;
+        this.bidHistoryCache = bidHistoryCache;
+        this.historyChunkSize = historyChunkSize;
+    }
 
     /**
      * Places a bid on an auction.
@@ -29,19 +41,34 @@ public class BidsService {
     }
 
     /**
-     * Gets bid history for an auction.
-     * Delegates to BidQueryService for read operations.
+     * Pushes an auction's bid history to the consumer in history order without materializing it.
+     * Hot auctions are served from the shared history cache; the rest are read in keyset chunks of
+     * {@code history-chunk-size} rows, each its own short query, so no connection is held while the
+     * consumer (e.g. a slow client) takes the items and at most one chunk is in memory.
      */
-    public List<BidHistoryItem> getHistory(long auctionId) {
-        return bidQueryService.getHistory(auctionId);
+    public void streamHistory(long auctionId, Consumer<? super BidHistoryItem> consumer) {
+        List<BidHistoryItem> cached = bidHistoryCache.getIfHot(auctionId);
+        if (cached != null) {
+            cached.forEach(consumer);
+            return;
+        }
+        BidHistoryItem last = null;
+        List<BidHistoryItem> chunk;
+        do {
+            chunk = bidQueryService.getHistoryChunk(auctionId, last, historyChunkSize);
+            chunk.forEach(consumer);
+            if (!chunk.isEmpty()) {
+                last = chunk.get(chunk.size() - 1);
+            }
+        } while (chunk.size() == historyChunkSize);
     }
 
     /**
-     * Gets user's bid summary across all auctions.
+     * Gets one page of the user's bid summary across all auctions.
      * Delegates to BidQueryService for read operations.
      */
-    public List<com.myapp.server.bids.dto.UserBidSummaryItem> getUserBidsSummary(Long userId) {
-        return bidQueryService.getUserBidsSummary(userId);
+    public com.myapp.server.bids.dto.UserBidSummaryPage getUserBidsSummary(Long userId, com.myapp.server.common.web.PageCursor after, int limit) {
+        return bidQueryService.getUserBidsSummary(userId, after, limit);
     }
 
     // Keep the BidHistoryItem record here for backward compatibility
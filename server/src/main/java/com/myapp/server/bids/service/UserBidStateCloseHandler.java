@@ -0,0 +1,27 @@
+package com.myapp.server.bids.service;
+
+import com.myapp.server.auctions.event.AuctionsClosedEvent;
+import com.myapp.server.bids.repository.BidsDao;
+import com.myapp.server.common.outbox.OutboxHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Marks the bidders' summary rows of closed auctions as ended (idempotent, safe to redeliver).
+ */
+@Component
+@RequiredArgsConstructor
+public class UserBidStateCloseHandler implements OutboxHandler<AuctionsClosedEvent> {
+
+    private final BidsDao dao;
+
+    @Override
+    public Class<AuctionsClosedEvent> eventType() {
+        return AuctionsClosedEvent.class;
+    }
+
+    @Override
+    public void handle(AuctionsClosedEvent event) {
+        dao.markUserBidStatesEnded(event.auctionIds());
+    }
+}
@@ -0,0 +1,10 @@
+package com.myapp.server.common.auth;
+
+/**
+ * The caller resolved from the auth cookie by {@link AuthenticationFilter}, once per request.
+ * Stored under {@link #REQUEST_ATTRIBUTE}; handlers receive it through {@link CurrentUser}.
+ */
+public record AuthenticatedUser(long id) {
+
+    public static final String REQUEST_ATTRIBUTE = AuthenticatedUser.class.getName();
+}
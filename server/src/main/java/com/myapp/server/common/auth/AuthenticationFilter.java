@@ -0,0 +1,92 @@
+package com.myapp.server.common.auth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolves the caller from the auth cookie once per request and stores it as {@link AuthenticatedUser}
+ * (controllers take it via {@link CurrentUser}). Requests to protected routes without a valid token are
+ * answered with 401 here, before any controller or interceptor runs.
+ * Runs after the CORS filter so the 401 still carries the CORS headers the frontend needs to read it.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class AuthenticationFilter extends OncePerRequestFilter {
+
+    private static final List<ProtectedRoute> PROTECTED_ROUTES = List.of(
+        new ProtectedRoute(HttpMethod.POST, "/api/auctions"),
+        new ProtectedRoute(HttpMethod.GET, "/api/auctions/my"),
+        new ProtectedRoute(HttpMethod.GET, "/api/auctions/my/bidded"),
+        new ProtectedRoute(HttpMethod.POST, "/api/auctions/*/bids"),
+        new ProtectedRoute(HttpMethod.GET, "/api/bids/my/summary"),
+        new ProtectedRoute(HttpMethod.GET, "/api/auth/me")
+    );
+
+    private final JwtTokenExtractor jwtTokenExtractor;
+    private final ObjectMapper objectMapper;
+
+    public AuthenticationFilter(JwtTokenExtractor jwtTokenExtractor, ObjectMapper objectMapper) {
+        this.jwtTokenExtractor = jwtTokenExtractor;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Long userId = jwtTokenExtractor.getCurrentUserId(request);
+        if (userId != null) {
+            request.setAttribute(AuthenticatedUser.REQUEST_ATTRIBUTE, new AuthenticatedUser(userId));
+        } else if (isProtected(request)) {
+            writeUnauthorized(response);
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static boolean isProtected(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (ProtectedRoute route : PROTECTED_ROUTES) {
+            if (route.method().matches(request.getMethod()) && route.pattern().matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Same body shape as RestExceptionHandler
+    private void writeUnauthorized(HttpServletResponse response) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", OffsetDateTime.now());
+        body.put("status", HttpStatus.UNAUTHORIZED.value());
+        body.put("error", HttpStatus.UNAUTHORIZED.getReasonPhrase());
+        body.put("message", "Authentication required");
+        response.setStatus(HttpStatus.UNAUTHORIZED.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    private record ProtectedRoute(HttpMethod method, PathPattern pattern) {
+        ProtectedRoute(HttpMethod method, String pattern) {
+            this(method, PathPatternParser.defaultInstance.parse(pattern));
+        }
+    }
+}
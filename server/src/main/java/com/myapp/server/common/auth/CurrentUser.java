@@ -0,0 +1,19 @@
+package com.myapp.server.common.auth;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds the authenticated caller to a handler parameter of type {@link AuthenticatedUser} or {@code Long} (user id).
+ * With {@code required = false} the parameter is null for anonymous callers.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUser {
+
+    boolean required() default true;
+}
@@ -0,0 +1,39 @@
+package com.myapp.server.common.auth;
+
+import com.myapp.server.common.exception.BusinessRuleViolationException;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * Resolves {@link CurrentUser} parameters from the principal stored by {@link AuthenticationFilter}.
+ * Only reads the request attribute - the token is never parsed here.
+ */
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        Class<?> type = parameter.getParameterType();
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+            && (type == AuthenticatedUser.class || type == Long.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        AuthenticatedUser user = (AuthenticatedUser) webRequest.getAttribute(
+            AuthenticatedUser.REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (user == null) {
+            // Protected routes are rejected by the filter already; this covers routes missing from its list
+            if (parameter.getParameterAnnotation(CurrentUser.class).required()) {
+                throw new BusinessRuleViolationException(HttpStatus.UNAUTHORIZED, "Authentication required");
+            }
+            return null;
+        }
+        return parameter.getParameterType() == AuthenticatedUser.class ? user : user.id();
+    }
+}
@@ -41,20 +41,20 @@ public class JwtTokenExtractor {
 
     /**
      * Extracts the current user ID from the JWT token in the request.
+     * Called once per request by {@link AuthenticationFilter}; controllers use {@link CurrentUser} instead.
      * 
      * @param request the HTTP request
      * @return the user ID from the token, or null if token is invalid/missing
      */
     public Long getCurrentUserId(HttpServletRequest request) {
-        String token = extractTokenFromCookie(request);
-        if (token == null || token.isBlank()) {
-            return null; // For public endpoints, return null instead of throwing
+        String sub = jwtService.findSubject(extractTokenFromCookie(request));
+        if (sub == null) {
+            return null; // Missing or invalid token: anonymous caller
         }
         try {
-            String sub = jwtService.getSubject(token);
             return Long.valueOf(sub);
-        } catch (Exception e) {
-            return null; // Invalid token, return null for public endpoints
+        } catch (NumberFormatException e) {
+            return null; // Only tokens we issued (numeric user id) are accepted
         }
     }
 }
@@ -0,0 +1,198 @@
+package com.myapp.server.common.cluster;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Coordinates scheduled work across instances through Postgres session advisory locks held on one
+ * pinned connection per node (the server drops them if the node dies, so there is no lease to expire).
+ * <ul>
+ *   <li>Membership: each node holds one slot lock {@code (SLOT_LOCK_CLASS, n)}; the granted slot locks
+ *       in {@code pg_locks} are the live nodes, and a node's rank among them is its shard index.</li>
+ *   <li>Leadership: one node holds {@code (JOB_LOCK_CLASS, LEADER_KEY)} and runs the leader-only jobs.</li>
+ * </ul>
+ * Until the node has joined (e.g. the database is not reachable yet) it owns every shard, but it is
+ * never the leader: leader-only jobs run only on the node holding the leader lock, so two nodes that
+ * cannot reach the database never both run them.
+ */
+@Slf4j
+@Component
+public class ClusterCoordinator {
+
+    private static final int SLOT_LOCK_CLASS = 71001;
+    private static final int JOB_LOCK_CLASS = 71002;
+    private static final int LEADER_KEY = 0;
+
+    private static final String LIVE_SLOTS_SQL = """
+        SELECT l.objid::int FROM pg_locks l
+        WHERE l.locktype = 'advisory' AND l.granted AND l.objsubid = 2 AND l.classid = ?::oid
+          AND l.database = (SELECT oid FROM pg_database WHERE datname = current_database())
+        ORDER BY l.objid
+    """;
+
+    /**
+     * This node's share of sharded work: it owns ids that hash to {@code index} out of {@code count}.
+     */
+    public record Shard(int index, int count) {
+        static final Shard STANDALONE = new Shard(0, 1);
+        static final Shard NONE = new Shard(-1, 1);
+    }
+
+    private final DataSource dataSource;
+    private final MeterRegistry meterRegistry;
+    private final int maxNodes;
+
+    private Connection connection;
+    private JdbcTemplate pinned;
+    private int slot = -1;
+    private volatile boolean leader = false;
+    private volatile Shard shard = Shard.STANDALONE;
+
+    public ClusterCoordinator(DataSource dataSource,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.cluster.max-nodes:32}") int maxNodes) {
+        this.dataSource = dataSource;
+        this.meterRegistry = meterRegistry;
+        this.maxNodes = maxNodes;
+        Gauge.builder("cluster.nodes", this, c -> c.shard.count())
+            .description("Live nodes seen by this node")
+            .register(meterRegistry);
+        Gauge.builder("cluster.leader", this, c -> c.isLeader() ? 1 : 0)
+            .description("1 while this node runs the leader-only jobs")
+            .register(meterRegistry);
+    }
+
+    public boolean isLeader() {
+        return leader;
+    }
+
+    public Shard shard() {
+        return shard;
+    }
+
+    /**
+     * Whether sharded work for this id belongs to this node.
+     */
+    public boolean owns(long id) {
+        Shard current = shard;
+        return current.index() >= 0 && Math.floorMod(id, current.count()) == current.index();
+    }
+
+    /**
+     * Runs the job only on the leader and records {@code scheduler.job.runs{job,outcome}} and
+     * {@code scheduler.job.duration{job}} for this node. Returns whether the job ran here.
+     */
+    public boolean runIfLeader(String job, Runnable task) {
+        if (!isLeader()) {
+            count(job, "skipped");
+            return false;
+        }
+        try {
+            Timer.builder("scheduler.job.duration").tag("job", job).register(meterRegistry).record(task);
+            count(job, "ran");
+            return true;
+        } catch (RuntimeException e) {
+            count(job, "failed");
+            throw e;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.cluster.heartbeat-ms:5000}")
+    public synchronized void heartbeat() {
+        try {
+            if (connection == null || !connection.isValid(2)) {
+                release();
+                join();
+            }
+            if (!leader) {
+                leader = tryLock(JOB_LOCK_CLASS, LEADER_KEY);
+                if (leader) {
+                    log.info("Node in slot {} is now the scheduler leader", slot);
+                }
+            }
+            refreshShard();
+        } catch (SQLException | DataAccessException e) {
+            log.warn("Cluster heartbeat failed: {}", e.getMessage());
+            release();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        release();
+    }
+
+    private void join() throws SQLException {
+        connection = dataSource.getConnection();
+        connection.setAutoCommit(true);
+        pinned = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+        for (int candidate = 0; candidate < maxNodes; candidate++) {
+            if (tryLock(SLOT_LOCK_CLASS, candidate)) {
+                slot = candidate;
+                break;
+            }
+        }
+        if (slot < 0) {
+            log.warn("All {} cluster slots are taken; this node will not take sharded work", maxNodes);
+        }
+    }
+
+    private void refreshShard() {
+        if (slot < 0) {
+            shard = Shard.NONE;
+            return;
+        }
+        List<Integer> live = pinned.queryForList(LIVE_SLOTS_SQL, Integer.class, SLOT_LOCK_CLASS);
+        int index = live.indexOf(slot);
+        Shard refreshed = index < 0 ? Shard.NONE : new Shard(index, live.size());
+        if (!refreshed.equals(shard)) {
+            log.info("Cluster membership changed: shard {} of {}", refreshed.index(), refreshed.count());
+        }
+        shard = refreshed;
+    }
+
+    private boolean tryLock(int lockClass, int key) {
+        return Boolean.TRUE.equals(pinned.queryForObject("SELECT pg_try_advisory_lock(?, ?)", Boolean.class, lockClass, key));
+    }
+
+    private void release() {
+        leader = false;
+        slot = -1;
+        shard = Shard.STANDALONE;
+        if (connection == null) {
+            return;
+        }
+        try {
+            // Session locks survive on pooled connections, so drop them before handing it back
+            pinned.execute("SELECT pg_advisory_unlock_all()");
+        } catch (DataAccessException e) {
+            log.debug("Could not release advisory locks: {}", e.getMessage());
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Could not close cluster connection: {}", e.getMessage());
+        }
+        connection = null;
+        pinned = null;
+    }
+
+    private void count(String job, String outcome) {
+        Counter.builder("scheduler.job.runs").tag("job", job).tag("outcome", outcome).register(meterRegistry).increment();
+    }
+}
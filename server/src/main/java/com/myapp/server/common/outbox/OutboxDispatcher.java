@@ -0,0 +1,179 @@
+package com.myapp.server.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the outbox with a few parallel consumers (on every instance).
+ * A batch is claimed in one statement: rows are picked with {@code FOR UPDATE SKIP LOCKED}, so
+ * consumers never wait on each other, and leased by pushing {@code available_at} forward, so no lock
+ * is held while handlers run. Handled rows are deleted; failed rows are retried with exponential
+ * backoff and parked ({@code failed_at}) after {@code max-attempts}. A consumer that dies mid-batch
+ * simply lets the lease expire, which gives at-least-once delivery.
+ */
+@Slf4j
+@Component
+public class OutboxDispatcher {
+
+    private static final String CLAIM_SQL = """
+        UPDATE public.outbox_events o
+        SET available_at = now() + make_interval(secs => ?), attempts = o.attempts + 1
+        WHERE o.id IN (
+            SELECT e.id FROM public.outbox_events e
+            WHERE e.failed_at IS NULL AND e.available_at <= now()
+            ORDER BY e.id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+        )
+        RETURNING o.id, o.event_type, o.payload::text AS payload, o.attempts, o.created_at
+    """;
+
+    private record ClaimedEvent(long id, String type, String payload, int attempts, OffsetDateTime createdAt) {}
+
+    private final JdbcTemplate jdbc;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, List<OutboxHandler<?>>> handlers;
+    private final Timer lag;
+    private final int consumers;
+    private final int batchSize;
+    private final long pollMs;
+    private final int leaseSeconds;
+    private final int maxAttempts;
+    private ScheduledExecutorService executor;
+
+    public OutboxDispatcher(JdbcTemplate jdbc,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            List<OutboxHandler<?>> handlers,
+                            @Value("${app.outbox.consumers:2}") int consumers,
+                            @Value("${app.outbox.batch-size:100}") int batchSize,
+                            @Value("${app.outbox.poll-ms:500}") long pollMs,
+                            @Value("${app.outbox.lease-seconds:60}") int leaseSeconds,
+                            @Value("${app.outbox.max-attempts:10}") int maxAttempts) {
+        this.jdbc = jdbc;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.handlers = handlers.stream()
+            .collect(Collectors.groupingBy(h -> OutboxWriter.typeName(h.eventType())));
+        this.lag = Timer.builder("outbox.lag")
+            .description("Time from outbox append to successful handling")
+            .register(meterRegistry);
+        this.consumers = consumers;
+        this.batchSize = batchSize;
+        this.pollMs = pollMs;
+        this.leaseSeconds = leaseSeconds;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        executor = Executors.newScheduledThreadPool(consumers, Thread.ofPlatform().name("outbox-", 0).daemon().factory());
+        for (int i = 0; i < consumers; i++) {
+            executor.scheduleWithFixedDelay(this::drain, 0, pollMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void drain() {
+        try {
+            // Keep going while batches come back full; otherwise wait for the next poll
+            int claimed;
+            do {
+                claimed = dispatchBatch();
+            } while (claimed == batchSize && !Thread.currentThread().isInterrupted());
+        } catch (DataAccessException e) {
+            log.warn("Outbox dispatch failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Claims, handles and settles one batch; returns how many events were claimed.
+     */
+    int dispatchBatch() {
+        List<ClaimedEvent> batch = new ArrayList<>(jdbc.query(CLAIM_SQL, (rs, i) -> new ClaimedEvent(
+            rs.getLong("id"),
+            rs.getString("event_type"),
+            rs.getString("payload"),
+            rs.getInt("attempts"),
+            rs.getObject("created_at", OffsetDateTime.class)
+        ), leaseSeconds, batchSize));
+        batch.sort(Comparator.comparingLong(ClaimedEvent::id));
+
+        List<Object[]> done = new ArrayList<>();
+        for (ClaimedEvent event : batch) {
+            try {
+                dispatch(event);
+                done.add(new Object[]{event.id()});
+                lag.record(Duration.between(event.createdAt(), OffsetDateTime.now()));
+                count(event.type(), "ok");
+            } catch (Exception e) {
+                fail(event, e);
+            }
+        }
+        if (!done.isEmpty()) {
+            jdbc.batchUpdate("DELETE FROM public.outbox_events WHERE id = ?", done);
+        }
+        return batch.size();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void dispatch(ClaimedEvent event) throws Exception {
+        List<OutboxHandler<?>> forType = handlers.getOrDefault(event.type(), List.of());
+        for (OutboxHandler handler : forType) {
+            handler.handle(objectMapper.readValue(event.payload(), handler.eventType()));
+        }
+    }
+
+    private void fail(ClaimedEvent event, Exception e) {
+        boolean dead = event.attempts() >= maxAttempts;
+        long backoffSeconds = backoffSeconds(event.attempts());
+        log.warn("Outbox event {} ({}) failed on attempt {}{}: {}",
+            event.id(), event.type(), event.attempts(), dead ? ", giving up" : "", e.getMessage());
+        jdbc.update("""
+            UPDATE public.outbox_events
+            SET available_at = now() + make_interval(secs => ?), last_error = ?,
+                failed_at = CASE WHEN ? THEN now() END
+            WHERE id = ?
+        """, backoffSeconds, String.valueOf(e.getMessage()), dead, event.id());
+        count(event.type(), dead ? "dead" : "retry");
+    }
+
+    /**
+     * Delay before the next attempt: doubles per attempt, capped at five minutes.
+     */
+    static long backoffSeconds(int attempts) {
+        return Math.min(300, 1L << Math.min(attempts, 9));
+    }
+
+    private void count(String type, String outcome) {
+        Counter.builder("outbox.dispatched").tag("type", type).tag("outcome", outcome).register(meterRegistry).increment();
+    }
+}
@@ -0,0 +1,12 @@
+package com.myapp.server.common.outbox;
+
+/**
+ * Consumer of one outbox event type. Delivery is at-least-once (a crash or a failure in any handler
+ * of the same event retries it), so implementations must be idempotent.
+ */
+public interface OutboxHandler<T> {
+
+    Class<T> eventType();
+
+    void handle(T event);
+}
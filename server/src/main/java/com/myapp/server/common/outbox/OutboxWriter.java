@@ -0,0 +1,64 @@
+package com.myapp.server.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Appends events to the outbox table inside the caller's transaction, so an event exists exactly
+ * when the change that produced it commits. The work it triggers runs later in {@link OutboxDispatcher}.
+ * Event types no {@link OutboxHandler} consumes are not written at all: the dispatcher would only
+ * delete them again, and the writers sit on the hottest transactions (bids).
+ */
+@Slf4j
+@Component
+public class OutboxWriter {
+
+    private final JdbcTemplate jdbc;
+    private final ObjectMapper objectMapper;
+    private final Set<String> handledTypes;
+
+    public OutboxWriter(JdbcTemplate jdbc, ObjectMapper objectMapper, List<OutboxHandler<?>> handlers) {
+        this.jdbc = jdbc;
+        this.objectMapper = objectMapper;
+        this.handledTypes = handlers.stream()
+            .map(h -> typeName(h.eventType()))
+            .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * @param aggregateId id of the entity the event is about (for ordering/diagnostics), may be null
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Object event, Long aggregateId) {
+        String type = typeName(event.getClass());
+        if (!handledTypes.contains(type)) {
+            log.debug("No outbox handler for {}, not appending", type);
+            return;
+        }
+        jdbc.update("""
+            INSERT INTO public.outbox_events (event_type, aggregate_id, payload)
+            VALUES (?, ?, ?::jsonb)
+        """, type, aggregateId, toJson(event));
+    }
+
+    static String typeName(Class<?> eventType) {
+        return eventType.getSimpleName();
+    }
+
+    private String toJson(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Outbox event is not serializable: " + event.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.myapp.server.common.web;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes responses item by item with Jackson's {@link JsonGenerator} instead of
+ * serializing a fully built object graph, so memory per request stays flat regardless of size.
+ * The generator comes from the negotiated {@link WireFormats} mapper (JSON, Smile or CBOR).
+ * Payload bytes and write time are recorded per format so the encodings can be compared
+ * under real traffic ({@code api.stream.payload} / {@code api.stream.write}).
+ */
+@Component
+public class JsonStreamWriter {
+
+    private final WireFormats wireFormats;
+    private final MeterRegistry meterRegistry;
+
+    public JsonStreamWriter(WireFormats wireFormats, MeterRegistry meterRegistry) {
+        this.wireFormats = wireFormats;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Source of items pushed into the sink one at a time (e.g. chunk by chunk from keyset queries).
+     */
+    @FunctionalInterface
+    public interface ItemSource<T> {
+        void forEach(Consumer<? super T> sink);
+    }
+
+    /**
+     * Body writer for an object-level document (e.g. paging envelope + items array).
+     */
+    @FunctionalInterface
+    public interface DocumentWriter {
+        void write(JsonGenerator gen) throws IOException;
+    }
+
+    /**
+     * Streams a top-level array; each item is written as the source produces it.
+     */
+    public <T> StreamingResponseBody array(MediaType format, ItemSource<T> source) {
+        return out -> write(format, out, gen -> {
+            gen.writeStartArray();
+            source.forEach(item -> writeItem(gen, item));
+            gen.writeEndArray();
+        });
+    }
+
+    /**
+     * Streams a document composed by the caller directly on the generator.
+     */
+    public StreamingResponseBody document(MediaType format, DocumentWriter writer) {
+        return out -> write(format, out, writer);
+    }
+
+    private void write(MediaType format, OutputStream out, DocumentWriter writer) throws IOException {
+        String formatTag = format.getSubtype();
+        CountingOutputStream counted = new CountingOutputStream(out);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        // The servlet container owns the response stream; only flush it
+        try (JsonGenerator gen = wireFormats.mapperFor(format).createGenerator(counted, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            writer.write(gen);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            sample.stop(meterRegistry.timer("api.stream.write", "format", formatTag));
+            DistributionSummary.builder("api.stream.payload")
+                    .baseUnit("bytes")
+                    .tag("format", formatTag)
+                    .register(meterRegistry)
+                    .record(counted.count);
+        }
+    }
+
+    private void writeItem(JsonGenerator gen, Object item) {
+        try {
+            gen.writePOJO(item);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.myapp.server.common.web;
+
+import com.myapp.server.common.exception.BusinessRuleViolationException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+/**
+ * Opaque keyset-pagination cursor: the sort key and id of the last row of a page.
+ * The next page starts strictly after it, so no OFFSET is needed and pages stay stable while rows are added.
+ * Sent to clients in the {@link #HEADER} response header.
+ */
+public record PageCursor(OffsetDateTime sortKey, long id) {
+
+    public static final String HEADER = "X-Next-Cursor";
+
+    public String encode() {
+        String raw = sortKey.toInstant() + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Null/blank means "first page".
+     */
+    public static PageCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new PageCursor(
+                Instant.parse(raw.substring(0, sep)).atOffset(ZoneOffset.UTC),
+                Long.parseLong(raw.substring(sep + 1))
+            );
+        } catch (RuntimeException e) {
+            throw new BusinessRuleViolationException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+        }
+    }
+}
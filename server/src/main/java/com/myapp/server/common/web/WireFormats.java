@@ -0,0 +1,87 @@
+package com.myapp.server.common.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Wire formats the API can answer in: JSON (default) plus the binary Jackson formats
+ * Smile and CBOR for high-volume clients that ask for them via Accept.
+ * Binary mappers write timestamps as epoch millis; BigDecimal uses each format's native decimal encoding.
+ */
+@Component
+public class WireFormats {
+
+    public static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+    public static final MediaType CBOR = new MediaType("application", "cbor");
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper smileMapper;
+    private final ObjectMapper cborMapper;
+
+    public WireFormats(ObjectMapper jsonMapper, ObjectProvider<Jackson2ObjectMapperBuilder> builders) {
+        this.jsonMapper = jsonMapper;
+        this.smileMapper = binaryMapper(builders.getObject().factory(new SmileFactory()));
+        this.cborMapper = binaryMapper(builders.getObject().factory(new CBORFactory()));
+    }
+
+    private static ObjectMapper binaryMapper(Jackson2ObjectMapperBuilder builder) {
+        return builder
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .featuresToDisable(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                .build();
+    }
+
+    public ObjectMapper smileMapper() {
+        return smileMapper;
+    }
+
+    public ObjectMapper cborMapper() {
+        return cborMapper;
+    }
+
+    public ObjectMapper mapperFor(MediaType mediaType) {
+        if (SMILE.equalsTypeAndSubtype(mediaType)) return smileMapper;
+        if (CBOR.equalsTypeAndSubtype(mediaType)) return cborMapper;
+        return jsonMapper;
+    }
+
+    /**
+     * Picks the response format from an Accept header, highest quality first.
+     * Binary formats are only used when named explicitly; wildcards and anything unknown get JSON.
+     */
+    public MediaType negotiate(String acceptHeader) {
+        if (acceptHeader == null || acceptHeader.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(acceptHeader);
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        return accepted.stream()
+                .filter(type -> type.getQualityValue() > 0)
+                .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed())
+                .map(this::supported)
+                .filter(type -> type != null)
+                .findFirst()
+                .orElse(MediaType.APPLICATION_JSON);
+    }
+
+    private MediaType supported(MediaType requested) {
+        if (SMILE.equalsTypeAndSubtype(requested)) return SMILE;
+        if (CBOR.equalsTypeAndSubtype(requested)) return CBOR;
+        if (requested.isCompatibleWith(MediaType.APPLICATION_JSON)) return MediaType.APPLICATION_JSON;
+        return null;
+    }
+}
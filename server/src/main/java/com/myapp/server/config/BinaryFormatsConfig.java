@@ -0,0 +1,52 @@
+package com.myapp.server.config;
+
+import com.myapp.server.common.web.WireFormats;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class BinaryFormatsConfig implements WebMvcConfigurer {
+
+    private final WireFormats wireFormats;
+
+    public BinaryFormatsConfig(WireFormats wireFormats) {
+        this.wireFormats = wireFormats;
+    }
+
+    /**
+     * Spring MVC already registers Smile/CBOR converters with its own default mappers when the
+     * dataformat modules are on the classpath, and the first matching converter wins - so the
+     * defaults are replaced in place (keeping their position after JSON, so wildcard Accept headers
+     * keep getting JSON) rather than appended behind them.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        replaceOrAppend(converters, MappingJackson2SmileHttpMessageConverter.class,
+            new MappingJackson2SmileHttpMessageConverter(wireFormats.smileMapper()));
+        replaceOrAppend(converters, MappingJackson2CborHttpMessageConverter.class,
+            new MappingJackson2CborHttpMessageConverter(wireFormats.cborMapper()));
+    }
+
+    private static void replaceOrAppend(List<HttpMessageConverter<?>> converters,
+                                        Class<?> type, HttpMessageConverter<?> replacement) {
+        boolean replaced = false;
+        for (int i = 0; i < converters.size(); i++) {
+            if (type.isInstance(converters.get(i))) {
+                if (!replaced) {
+                    converters.set(i, replacement);
+                    replaced = true;
+                } else {
+                    converters.remove(i--);
+                }
+            }
+        }
+        if (!replaced) {
+            converters.add(replacement);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.myapp.server.config;
+
+import com.myapp.server.auctions.hot.HotAuctionInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class HotAuctionTrackingConfig implements WebMvcConfigurer {
+
+    private final HotAuctionInterceptor hotAuctionInterceptor;
+
+    public HotAuctionTrackingConfig(HotAuctionInterceptor hotAuctionInterceptor) {
+        this.hotAuctionInterceptor = hotAuctionInterceptor;
+    }
+
+    /**
+     * Detail, page, history and bid endpoints all carry the auction id in the path.
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(hotAuctionInterceptor).addPathPatterns("/api/auctions/*", "/api/auctions/*/**");
+    }
+}
@@ -0,0 +1,20 @@
+package com.myapp.server.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class QueryExecutorConfig {
+
+    /**
+     * Virtual-thread executor for database calls that run alongside the request thread
+     * (each task opens its own transaction and pooled connection).
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService queryExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
@@ -0,0 +1,39 @@
+package com.myapp.server.config;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class StreamingConfig implements WebMvcConfigurer, DisposableBean {
+
+    private final SimpleAsyncTaskExecutor streamingExecutor;
+    private final long timeoutMs;
+
+    /**
+     * Streamed bodies (JsonStreamWriter) are written on virtual threads: a slow client blocks only its
+     * own virtual thread, and the writers hold no pooled connection between chunk reads.
+     * max-concurrent caps the writers in flight; past it new streams wait for a slot.
+     */
+    public StreamingConfig(@Value("${app.web.streaming.max-concurrent:200}") int maxConcurrent,
+                           @Value("${app.web.streaming.timeout-ms:60000}") long timeoutMs) {
+        this.streamingExecutor = new SimpleAsyncTaskExecutor("response-stream-");
+        this.streamingExecutor.setVirtualThreads(true);
+        this.streamingExecutor.setConcurrencyLimit(maxConcurrent);
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingExecutor);
+        configurer.setDefaultTimeout(timeoutMs);
+    }
+
+    @Override
+    public void destroy() {
+        streamingExecutor.close();
+    }
+}
@@ -0,0 +1,16 @@
+package com.myapp.server.notifications.dto;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+
+/**
+ * A notification for one user about one auction.
+ * {@code amount} is the auction's public price at the time of the event.
+ */
+public record Notification(
+        long userId,
+        long auctionId,
+        NotificationType type,
+        BigDecimal amount,
+        OffsetDateTime createdAt
+) {}
@@ -0,0 +1,7 @@
+package com.myapp.server.notifications.dto;
+
+public enum NotificationType {
+    OUTBID,
+    WON,
+    LOST
+}
@@ -0,0 +1,39 @@
+package com.myapp.server.notifications.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class AuctionOutcomeQueries {
+
+    private final JdbcTemplate jdbc;
+
+    /**
+     * One row per bidder of each sold auction, flagged with whether that bidder won
+     * (DISTINCT: bids holds a row per bid, and a bidder who raised their max has several).
+     */
+    public record BidderOutcomeRow(long auctionId, long bidderId, boolean won, BigDecimal finalPrice) {}
+
+    public List<BidderOutcomeRow> findBidderOutcomes(List<Long> auctionIds) {
+        if (auctionIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbc.query("""
+            SELECT DISTINCT b.auction_id, b.bidder_id, (b.bidder_id = a.highest_user_id) AS won, a.current_bid_amount
+            FROM public.bids b
+            JOIN public.auctions a ON a.id = b.auction_id
+            WHERE b.auction_id = ANY(?) AND a.status = 'sold'
+        """, ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", auctionIds.toArray())),
+            (rs, i) -> new BidderOutcomeRow(
+                rs.getLong("auction_id"),
+                rs.getLong("bidder_id"),
+                rs.getBoolean("won"),
+                rs.getBigDecimal("current_bid_amount")
+            ));
+    }
+}
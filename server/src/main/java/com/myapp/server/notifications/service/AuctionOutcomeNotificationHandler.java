@@ -0,0 +1,41 @@
+package com.myapp.server.notifications.service;
+
+import com.myapp.server.auctions.event.AuctionsClosedEvent;
+import com.myapp.server.common.outbox.OutboxHandler;
+import com.myapp.server.notifications.dto.Notification;
+import com.myapp.server.notifications.dto.NotificationType;
+import com.myapp.server.notifications.repository.AuctionOutcomeQueries;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tells every bidder of a sold auction whether they won or lost.
+ * All notifications of the event go to the inbox in one batch; a retry re-applies the whole event.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionOutcomeNotificationHandler implements OutboxHandler<AuctionsClosedEvent> {
+
+    private final AuctionOutcomeQueries outcomeQueries;
+    private final NotificationPipeline pipeline;
+
+    @Override
+    public Class<AuctionsClosedEvent> eventType() {
+        return AuctionsClosedEvent.class;
+    }
+
+    @Override
+    public void handle(AuctionsClosedEvent event) {
+        OffsetDateTime now = OffsetDateTime.now();
+        List<Notification> notifications = new ArrayList<>();
+        for (AuctionOutcomeQueries.BidderOutcomeRow row : outcomeQueries.findBidderOutcomes(event.auctionIds())) {
+            NotificationType type = row.won() ? NotificationType.WON : NotificationType.LOST;
+            notifications.add(new Notification(row.bidderId(), row.auctionId(), type, row.finalPrice(), now));
+        }
+        pipeline.publish(notifications);
+    }
+}
@@ -0,0 +1,248 @@
+package com.myapp.server.notifications.service;
+
+import com.myapp.server.notifications.dto.Notification;
+import com.myapp.server.notifications.dto.NotificationType;
+import com.myapp.server.notifications.sink.NotificationSink;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivery of notifications from the outbox handlers to the sinks.
+ * Durable sinks (the inbox) are written synchronously by {@link #publish}, inside the outbox handler:
+ * if the write fails the handler fails and the outbox row stays for a retry, so an accepted event is
+ * never lost on a crash. A retry may re-apply a batch the sink already has (at-least-once).
+ * Best-effort sinks get a bounded, coalescing buffer instead. Pending notifications are keyed by
+ * (user, auction, type): a repeat outbid replaces the one still waiting instead of queueing another.
+ * A single worker delivers batches to those sinks, paced to {@code max-per-second}; when the buffer
+ * is full the notification is dropped for them. A batch a sink fails on is retried for that sink only,
+ * with exponential backoff, up to {@code max-attempts}; retried batches count against {@code max-pending}.
+ */
+@Slf4j
+@Component
+public class NotificationPipeline {
+
+    private record Key(long userId, long auctionId, NotificationType type) {}
+
+    private record Retry(NotificationSink sink, List<Notification> batch, int attempts, long dueAtNanos) {}
+
+    private final List<NotificationSink> durableSinks;
+    // Best-effort sinks, fed by the buffer below
+    private final List<NotificationSink> sinks;
+    private final MeterRegistry meterRegistry;
+    private final int maxPending;
+    private final int batchSize;
+    private final long flushMs;
+    private final int maxPerSecond;
+    private final int maxAttempts;
+    private final long retryMs;
+    private final Map<Key, Notification> pending = new LinkedHashMap<>();
+    // Worker thread only; retrying mirrors the number of notifications it holds for offer()
+    private final List<Retry> retries = new ArrayList<>();
+    private final AtomicInteger retrying = new AtomicInteger();
+    private final Counter coalesced;
+    private final Counter rejected;
+    private volatile Thread worker;
+
+    public NotificationPipeline(List<NotificationSink> sinks,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.notifications.max-pending:10000}") int maxPending,
+                                @Value("${app.notifications.batch-size:200}") int batchSize,
+                                @Value("${app.notifications.flush-ms:1000}") long flushMs,
+                                @Value("${app.notifications.max-per-second:500}") int maxPerSecond,
+                                @Value("${app.notifications.max-attempts:5}") int maxAttempts,
+                                @Value("${app.notifications.retry-ms:1000}") long retryMs) {
+        this.durableSinks = sinks.stream().filter(NotificationSink::durable).toList();
+        this.sinks = sinks.stream().filter(sink -> !sink.durable()).toList();
+        this.meterRegistry = meterRegistry;
+        this.maxPending = maxPending;
+        this.batchSize = batchSize;
+        this.flushMs = flushMs;
+        this.maxPerSecond = maxPerSecond;
+        this.maxAttempts = maxAttempts;
+        this.retryMs = retryMs;
+        this.coalesced = meterRegistry.counter("notifications.coalesced");
+        this.rejected = meterRegistry.counter("notifications.rejected");
+        Gauge.builder("notifications.pending", this, NotificationPipeline::pendingCount)
+            .description("Notifications waiting for delivery")
+            .register(meterRegistry);
+        Gauge.builder("notifications.retrying", retrying, AtomicInteger::get)
+            .description("Notifications held for a retry after a sink failed")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Writes the notifications to every durable sink, then queues them for the best-effort ones.
+     * A durable sink failure propagates so the calling outbox handler fails and the event is retried.
+     */
+    public void publish(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        for (NotificationSink sink : durableSinks) {
+            sink.deliver(notifications);
+            Counter.builder("notifications.delivered").tag("sink", sink.name()).register(meterRegistry).increment(notifications.size());
+        }
+        if (sinks.isEmpty()) {
+            return;
+        }
+        for (Notification notification : notifications) {
+            offer(notification);
+        }
+    }
+
+    /**
+     * Queues a notification for the best-effort sinks, merging it with a pending one for the same
+     * user, auction and type. Returns false, dropping it, when the buffer is full.
+     */
+    boolean offer(Notification notification) {
+        Key key = new Key(notification.userId(), notification.auctionId(), notification.type());
+        synchronized (pending) {
+            if (pending.containsKey(key)) {
+                pending.put(key, notification);
+                coalesced.increment();
+                return true;
+            }
+            if (pending.size() + retrying.get() >= maxPending) {
+                rejected.increment();
+                return false;
+            }
+            pending.put(key, notification);
+            if (pending.size() >= batchSize) {
+                pending.notifyAll();
+            }
+            return true;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (durableSinks.isEmpty() && sinks.isEmpty()) {
+            log.info("No notification sinks enabled");
+        }
+        if (sinks.isEmpty()) {
+            return;
+        }
+        worker = Thread.ofPlatform().name("notification-delivery").daemon().start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread current = worker;
+        if (current != null) {
+            current.interrupt();
+        }
+    }
+
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                List<Notification> batch = nextBatch();
+                retryDue();
+                if (batch.isEmpty()) {
+                    continue;
+                }
+                long startedAt = System.nanoTime();
+                deliver(batch);
+                // Pace delivery: a batch of n may not finish sooner than n / maxPerSecond seconds
+                long minNanos = TimeUnit.SECONDS.toNanos(batch.size()) / Math.max(1, maxPerSecond);
+                long remaining = minNanos - (System.nanoTime() - startedAt);
+                if (remaining > 0) {
+                    TimeUnit.NANOSECONDS.sleep(remaining);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<Notification> nextBatch() throws InterruptedException {
+        synchronized (pending) {
+            if (pending.size() < batchSize) {
+                pending.wait(flushMs);
+            }
+            List<Notification> batch = new ArrayList<>(Math.min(batchSize, pending.size()));
+            Iterator<Notification> it = pending.values().iterator();
+            while (it.hasNext() && batch.size() < batchSize) {
+                batch.add(it.next());
+                it.remove();
+            }
+            return batch;
+        }
+    }
+
+    private void deliver(List<Notification> batch) {
+        for (NotificationSink sink : sinks) {
+            if (!tryDeliver(sink, batch)) {
+                scheduleRetry(sink, batch, 1);
+            }
+        }
+    }
+
+    private void retryDue() {
+        if (retries.isEmpty()) {
+            return;
+        }
+        long now = System.nanoTime();
+        List<Retry> due = new ArrayList<>();
+        retries.removeIf(retry -> {
+            if (retry.dueAtNanos() - now > 0) {
+                return false;
+            }
+            due.add(retry);
+            return true;
+        });
+        for (Retry retry : due) {
+            retrying.addAndGet(-retry.batch().size());
+            if (tryDeliver(retry.sink(), retry.batch())) {
+                continue;
+            }
+            if (retry.attempts() + 1 >= maxAttempts) {
+                log.error("Notification sink {} dropped a batch of {} after {} attempts",
+                    retry.sink().name(), retry.batch().size(), retry.attempts() + 1);
+                Counter.builder("notifications.dropped").tag("sink", retry.sink().name()).register(meterRegistry).increment(retry.batch().size());
+            } else {
+                scheduleRetry(retry.sink(), retry.batch(), retry.attempts() + 1);
+            }
+        }
+    }
+
+    private void scheduleRetry(NotificationSink sink, List<Notification> batch, int attempts) {
+        // retry-ms, then doubling per attempt
+        long delayNanos = TimeUnit.MILLISECONDS.toNanos(retryMs) << Math.min(attempts - 1, 16);
+        retries.add(new Retry(sink, batch, attempts, System.nanoTime() + delayNanos));
+        retrying.addAndGet(batch.size());
+    }
+
+    private boolean tryDeliver(NotificationSink sink, List<Notification> batch) {
+        try {
+            sink.deliver(batch);
+            Counter.builder("notifications.delivered").tag("sink", sink.name()).register(meterRegistry).increment(batch.size());
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Notification sink {} failed for a batch of {}: {}", sink.name(), batch.size(), e.getMessage());
+            Counter.builder("notifications.failed").tag("sink", sink.name()).register(meterRegistry).increment(batch.size());
+            return false;
+        }
+    }
+
+    private int pendingCount() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+}
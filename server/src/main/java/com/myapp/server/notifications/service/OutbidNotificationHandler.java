@@ -0,0 +1,29 @@
+package com.myapp.server.notifications.service;
+
+import com.myapp.server.auctions.event.BidderOutbidEvent;
+import com.myapp.server.common.outbox.OutboxHandler;
+import com.myapp.server.notifications.dto.Notification;
+import com.myapp.server.notifications.dto.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class OutbidNotificationHandler implements OutboxHandler<BidderOutbidEvent> {
+
+    private final NotificationPipeline pipeline;
+
+    @Override
+    public Class<BidderOutbidEvent> eventType() {
+        return BidderOutbidEvent.class;
+    }
+
+    @Override
+    public void handle(BidderOutbidEvent event) {
+        Notification notification = new Notification(
+            event.outbidUserId(), event.auctionId(), NotificationType.OUTBID, event.currentPrice(), event.at());
+        pipeline.publish(List.of(notification));
+    }
+}
@@ -0,0 +1,49 @@
+package com.myapp.server.notifications.sink;
+
+import com.myapp.server.notifications.dto.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * In-app inbox. An unread notification of the same type for the same auction is updated in place
+ * (latest price, occurrence count) rather than stacking up, so a user outbid ten times sees one entry.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.notifications.sinks.inbox", havingValue = "true", matchIfMissing = true)
+public class InboxNotificationSink implements NotificationSink {
+
+    private final JdbcTemplate jdbc;
+
+    @Override
+    public String name() {
+        return "inbox";
+    }
+
+    @Override
+    public boolean durable() {
+        return true;
+    }
+
+    @Override
+    public void deliver(List<Notification> batch) {
+        jdbc.batchUpdate("""
+            INSERT INTO public.notification_inbox (user_id, auction_id, type, amount, created_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (user_id, auction_id, type) WHERE read_at IS NULL
+            DO UPDATE SET amount = EXCLUDED.amount,
+                          created_at = EXCLUDED.created_at,
+                          occurrences = notification_inbox.occurrences + 1
+        """, batch, batch.size(), (ps, n) -> {
+            ps.setLong(1, n.userId());
+            ps.setLong(2, n.auctionId());
+            ps.setString(3, n.type().name());
+            ps.setBigDecimal(4, n.amount());
+            ps.setObject(5, n.createdAt());
+        });
+    }
+}
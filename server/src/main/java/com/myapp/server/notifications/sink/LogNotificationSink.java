@@ -0,0 +1,30 @@
+package com.myapp.server.notifications.sink;
+
+import com.myapp.server.notifications.dto.Notification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Writes notifications to the {@code notifications} logger (route it to a file in the logging
+ * config). Meant for local testing; off by default.
+ */
+@Slf4j(topic = "notifications")
+@Component
+@ConditionalOnProperty(name = "app.notifications.sinks.log", havingValue = "true")
+public class LogNotificationSink implements NotificationSink {
+
+    @Override
+    public String name() {
+        return "log";
+    }
+
+    @Override
+    public void deliver(List<Notification> batch) {
+        for (Notification n : batch) {
+            log.info("{} user={} auction={} amount={} at={}", n.type(), n.userId(), n.auctionId(), n.amount(), n.createdAt());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.myapp.server.notifications.sink;
+
+import com.myapp.server.notifications.dto.Notification;
+
+import java.util.List;
+
+/**
+ * Destination for delivered notification batches. Sinks are enabled by property and every enabled
+ * sink receives every batch.
+ */
+public interface NotificationSink {
+
+    String name();
+
+    void deliver(List<Notification> batch);
+
+    /**
+     * Durable sinks are written by the outbox handler itself, so the outbox row stays until the write
+     * succeeds. The rest are best-effort and go through the paced in-memory buffer.
+     */
+    default boolean durable() {
+        return false;
+    }
+}
@@ -0,0 +1,7 @@
+-- Applied by Flyway at startup. CREATE INDEX CONCURRENTLY cannot run in a transaction; Flyway
+-- detects it and runs this script outside one, so keep it the only statement in the file.
+-- Partial index for the chunked bulk close: the inner SELECT of AuctionClosingQueries walks
+-- active auctions by end_date, so each chunk only touches the rows it locks.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_auctions_active_end_date
+    ON public.auctions (end_date)
+    WHERE status = 'active';
@@ -0,0 +1,18 @@
+-- Transactional outbox: rows are written in the same transaction as the change that produced them
+-- and drained by OutboxDispatcher.
+CREATE TABLE IF NOT EXISTS public.outbox_events (
+    id            BIGSERIAL PRIMARY KEY,
+    event_type    TEXT        NOT NULL,
+    aggregate_id  BIGINT,
+    payload       JSONB       NOT NULL,
+    created_at    TIMESTAMPTZ NOT NULL DEFAULT now(),
+    available_at  TIMESTAMPTZ NOT NULL DEFAULT now(),
+    attempts      INT         NOT NULL DEFAULT 0,
+    last_error    TEXT,
+    failed_at     TIMESTAMPTZ
+);
+
+-- Claim order for pending rows; parked (failed) rows drop out of the index
+CREATE INDEX IF NOT EXISTS idx_outbox_events_pending
+    ON public.outbox_events (available_at, id)
+    WHERE failed_at IS NULL;
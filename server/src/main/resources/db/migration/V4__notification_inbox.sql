@@ -0,0 +1,19 @@
+-- In-app notification inbox written by InboxNotificationSink.
+CREATE TABLE IF NOT EXISTS public.notification_inbox (
+    id           BIGSERIAL PRIMARY KEY,
+    user_id      BIGINT         NOT NULL,
+    auction_id   BIGINT         NOT NULL,
+    type         VARCHAR(16)    NOT NULL,
+    amount       NUMERIC,
+    occurrences  INT            NOT NULL DEFAULT 1,
+    created_at   TIMESTAMPTZ    NOT NULL,
+    read_at      TIMESTAMPTZ
+);
+
+-- At most one unread entry per user/auction/type; repeats update it (ON CONFLICT target)
+CREATE UNIQUE INDEX IF NOT EXISTS uq_notification_inbox_unread
+    ON public.notification_inbox (user_id, auction_id, type)
+    WHERE read_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_notification_inbox_user
+    ON public.notification_inbox (user_id, created_at DESC);
@@ -0,0 +1,30 @@
+-- Per-user bidding summary, maintained by bid placement and by the close handler.
+CREATE TABLE IF NOT EXISTS public.user_auction_bid_state (
+    user_id     BIGINT       NOT NULL,
+    auction_id  BIGINT       NOT NULL,
+    end_date    TIMESTAMPTZ  NOT NULL,
+    your_max    NUMERIC      NOT NULL,
+    leading     BOOLEAN      NOT NULL,
+    status      VARCHAR(16)  NOT NULL,
+    updated_at  TIMESTAMPTZ  NOT NULL,
+    PRIMARY KEY (user_id, auction_id)
+);
+
+-- Keyset pagination for /api/bids/my/summary
+CREATE INDEX IF NOT EXISTS idx_user_auction_bid_state_page
+    ON public.user_auction_bid_state (user_id, end_date DESC, auction_id DESC);
+
+-- Close fan-out (all bidders of an auction)
+CREATE INDEX IF NOT EXISTS idx_user_auction_bid_state_auction
+    ON public.user_auction_bid_state (auction_id);
+
+-- Backfill from existing bids
+INSERT INTO public.user_auction_bid_state (user_id, auction_id, end_date, your_max, leading, status, updated_at)
+SELECT b.bidder_id, a.id, a.end_date, MAX(b.max_bid),
+       bool_or(a.highest_user_id = b.bidder_id),
+       CASE WHEN a.status = 'active' THEN 'active' ELSE 'ended' END,
+       now()
+FROM public.bids b
+JOIN public.auctions a ON a.id = b.auction_id
+GROUP BY b.bidder_id, a.id, a.end_date, a.status
+ON CONFLICT (user_id, auction_id) DO NOTHING;
@@ -0,0 +1,5 @@
+-- Applied by Flyway at startup. CREATE INDEX CONCURRENTLY cannot run in a transaction; Flyway
+-- detects it and runs this script outside one, so keep it the only statement in the file.
+-- Keyset pagination for /api/auctions/my: (seller_id, created_at DESC, id DESC)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_auctions_seller_created
+    ON public.auctions (seller_id, created_at DESC, id DESC);
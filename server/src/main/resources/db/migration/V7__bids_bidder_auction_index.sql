@@ -0,0 +1,5 @@
+-- Applied by Flyway at startup. CREATE INDEX CONCURRENTLY cannot run in a transaction; Flyway
+-- detects it and runs this script outside one, so keep it the only statement in the file.
+-- Bidder lookup for the "auctions I've bid on" page (UserAuctionsQueries.findAuctionsWithBidsByUserIdDomain).
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_bids_bidder_auction
+    ON public.bids (bidder_id, auction_id);
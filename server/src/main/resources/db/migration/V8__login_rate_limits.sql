@@ -0,0 +1,14 @@
+-- Token buckets for PostgresLoginRateLimiter (app.auth.rate-limit.store=postgres).
+-- UNLOGGED: no WAL for the constant upserts; the table is emptied after a crash, which only
+-- forgets recent login failures.
+CREATE UNLOGGED TABLE IF NOT EXISTS public.login_rate_limits (
+    dimension   VARCHAR(16)        NOT NULL,
+    key         TEXT               NOT NULL,
+    tokens      DOUBLE PRECISION   NOT NULL,
+    updated_at  TIMESTAMPTZ        NOT NULL,
+    PRIMARY KEY (dimension, key)
+);
+
+-- Sweep of fully refilled buckets
+CREATE INDEX IF NOT EXISTS idx_login_rate_limits_updated
+    ON public.login_rate_limits (updated_at);
@@ -0,0 +1,6 @@
+-- Applied by Flyway at startup. CREATE INDEX CONCURRENTLY cannot run in a transaction; Flyway
+-- detects it and runs this script outside one, so keep it the only statement in the file.
+-- Keyset chunks of an auction's history (BidsJdbcReadHistory.getBidHistoryChunk) seek to
+-- (snapshot_time, id) and read the next rows in index order, so each chunk costs only its own rows.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_bid_history_auction_time
+    ON public.bid_history_snapshots (auction_id, snapshot_time, id);
@@ -14,7 +14,8 @@ import java.math.BigDecimal;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-@SpringBootTest
+// Runs against an already prepared and populated database; migrations are the application's job, not the fixtures'
+@SpringBootTest(properties = "spring.flyway.enabled=false")
 class ServerApplicationTests {
 
 	@Autowired BidsService bidsService;
@@ -0,0 +1,82 @@
+package com.myapp.server.auctions.cluster;
+
+import com.myapp.server.auctions.event.AuctionPriceChangedEvent;
+import com.myapp.server.auctions.event.AuctionsClosedEvent;
+import com.myapp.server.auctions.event.RemoteAuctionChangesEvent;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class AuctionChangeNotifierTest {
+
+	private static final OffsetDateTime VERSION = OffsetDateTime.of(2026, 3, 4, 5, 6, 7, 123_456_000, ZoneOffset.UTC);
+
+	@Test
+	void payload_roundTripsIdsAndVersion() {
+		List<String> payloads = AuctionChangeNotifier.payloads(List.of(1L, 22L, 333L), VERSION);
+
+		assertThat(payloads).hasSize(1);
+		RemoteAuctionChangesEvent event = AuctionChangeNotifier.parse(payloads.get(0));
+		assertThat(event.auctionIds()).containsExactly(1L, 22L, 333L);
+		assertThat(event.version()).isEqualTo(VERSION);
+		assertThat(event.all()).isFalse();
+	}
+
+	@Test
+	void payload_withoutVersion() {
+		List<String> payloads = AuctionChangeNotifier.payloads(List.of(5L), null);
+
+		assertThat(payloads).containsExactly(":5");
+		assertThat(AuctionChangeNotifier.parse(":5").version()).isNull();
+	}
+
+	@Test
+	void payloads_splitUnderNotifyLimit_withoutLosingIds() {
+		List<Long> ids = LongStream.rangeClosed(1_000_000_000L, 1_000_002_000L).boxed().toList();
+
+		List<String> payloads = AuctionChangeNotifier.payloads(ids, VERSION);
+
+		assertThat(payloads).hasSizeGreaterThan(1);
+		assertThat(payloads).allSatisfy(p -> assertThat(p.length()).isLessThan(8000));
+		List<Long> parsed = new ArrayList<>();
+		payloads.forEach(p -> {
+			RemoteAuctionChangesEvent event = AuctionChangeNotifier.parse(p);
+			assertThat(event.version()).isEqualTo(VERSION);
+			parsed.addAll(event.auctionIds());
+		});
+		assertThat(parsed).isEqualTo(ids);
+	}
+
+	@Test
+	void payloads_emptyForNoIds() {
+		assertThat(AuctionChangeNotifier.payloads(List.of(), VERSION)).isEmpty();
+	}
+
+	@Test
+	void parse_rejectsMalformedPayloads() {
+		assertThatThrownBy(() -> AuctionChangeNotifier.parse("1,2")).isInstanceOf(NumberFormatException.class);
+		assertThatThrownBy(() -> AuctionChangeNotifier.parse("x:1")).isInstanceOf(NumberFormatException.class);
+	}
+
+	@Test
+	void outboxHandlers_broadcastWithTheCommittedVersion() {
+		AuctionChangeNotifier notifier = mock(AuctionChangeNotifier.class);
+
+		new AuctionPriceBroadcastHandler(notifier).handle(
+			new AuctionPriceChangedEvent(7L, new BigDecimal("10.00"), 3, 2L, VERSION.plusDays(1), VERSION));
+		new AuctionsClosedBroadcastHandler(notifier).handle(new AuctionsClosedEvent(List.of(8L, 9L), VERSION));
+
+		verify(notifier).broadcast(List.of(7L), VERSION);
+		verify(notifier).broadcast(List.of(8L, 9L), VERSION);
+	}
+}
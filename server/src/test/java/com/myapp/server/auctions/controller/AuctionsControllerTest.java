@@ -0,0 +1,140 @@
+package com.myapp.server.auctions.controller;
+
+import com.myapp.server.auctions.dto.UserAuctionItem;
+import com.myapp.server.auctions.dto.UserAuctionPage;
+import com.myapp.server.auctions.hot.HotAuctionInterceptor;
+import com.myapp.server.auctions.hot.HotAuctionTracker;
+import com.myapp.server.auctions.service.AuctionService;
+import com.myapp.server.common.auth.JwtTokenExtractor;
+import com.myapp.server.common.web.JsonStreamWriter;
+import com.myapp.server.common.web.PageCursor;
+import com.myapp.server.common.web.WireFormats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AuctionsController.class)
+@Import({WireFormats.class, JsonStreamWriter.class, SimpleMeterRegistry.class, HotAuctionInterceptor.class})
+class AuctionsControllerTest {
+
+	private static final PageCursor CURSOR = new PageCursor(OffsetDateTime.of(2026, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC), 42);
+
+	@Autowired
+	private MockMvc mvc;
+
+	@MockitoBean
+	private JwtTokenExtractor jwtTokenExtractor;
+
+	@MockitoBean
+	private HotAuctionTracker hotAuctionTracker;
+
+	@MockitoBean
+	private AuctionService auctionService;
+
+	@BeforeEach
+	void anonymousByDefault() {
+		when(jwtTokenExtractor.getCurrentUserId(any())).thenReturn(null);
+	}
+
+	@Test
+	void myAuctions_rejectAnonymousCallers() throws Exception {
+		mvc.perform(get("/api/auctions/my"))
+			.andExpect(status().isUnauthorized())
+			.andExpect(jsonPath("$.message").value("Authentication required"));
+		mvc.perform(get("/api/auctions/my/bidded"))
+			.andExpect(status().isUnauthorized())
+			.andExpect(jsonPath("$.status").value(401));
+
+		verifyNoInteractions(auctionService);
+	}
+
+	@Test
+	void myAuctions_pageForTheCaller_withTheNextCursor() throws Exception {
+		when(jwtTokenExtractor.getCurrentUserId(any())).thenReturn(7L);
+		when(auctionService.getUserAuctions(eq(7L), eq("ACTIVE"), isNull(), eq(100)))
+			.thenReturn(new UserAuctionPage(List.of(item(1L)), CURSOR));
+
+		mvc.perform(get("/api/auctions/my").param("status", "ACTIVE").param("limit", "1000"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(PageCursor.HEADER, CURSOR.encode()))
+			.andExpect(jsonPath("$[0].id").value(1));
+	}
+
+	@Test
+	void biddedAuctions_followTheCursor_andEndWithoutAHeader() throws Exception {
+		when(jwtTokenExtractor.getCurrentUserId(any())).thenReturn(7L);
+		when(auctionService.getAuctionsWithBids(eq(7L), isNull(), eq(CURSOR), eq(20)))
+			.thenReturn(new UserAuctionPage(List.of(item(2L)), null));
+
+		mvc.perform(get("/api/auctions/my/bidded").param("cursor", CURSOR.encode()).param("limit", "20"))
+			.andExpect(status().isOk())
+			.andExpect(header().doesNotExist(PageCursor.HEADER))
+			.andExpect(jsonPath("$[0].id").value(2));
+	}
+
+	@Test
+	void listing_answersIfNoneMatchFromTheReadModelVersion_withoutBuildingThePage() throws Exception {
+		when(auctionService.findListingVersion()).thenReturn("node-7");
+		when(auctionService.findActiveAuctions(anyInt(), anyInt(), any(), any(), any(), any(), any(), any()))
+			.thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+
+		MvcResult first = mvc.perform(get("/api/auctions")).andReturn();
+		String eTag = first.getResponse().getHeader(HttpHeaders.ETAG);
+		mvc.perform(asyncDispatch(first)).andExpect(status().isOk());
+
+		mvc.perform(get("/api/auctions").header(HttpHeaders.IF_NONE_MATCH, eTag))
+			.andExpect(status().isNotModified());
+		verify(auctionService, times(1)).findActiveAuctions(anyInt(), anyInt(), any(), any(), any(), any(), any(), any());
+
+		// Any change to the read model moves the version
+		when(auctionService.findListingVersion()).thenReturn("node-8");
+		MvcResult changed = mvc.perform(get("/api/auctions").header(HttpHeaders.IF_NONE_MATCH, eTag)).andReturn();
+		mvc.perform(asyncDispatch(changed)).andExpect(status().isOk());
+	}
+
+	@Test
+	void listing_hashesThePage_untilTheReadModelIsReady() throws Exception {
+		when(auctionService.findListingVersion()).thenReturn(null);
+		when(auctionService.findActiveAuctions(anyInt(), anyInt(), any(), any(), any(), any(), any(), any()))
+			.thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, 20), 0));
+
+		MvcResult first = mvc.perform(get("/api/auctions")).andReturn();
+		String eTag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+		mvc.perform(get("/api/auctions").header(HttpHeaders.IF_NONE_MATCH, eTag))
+			.andExpect(status().isNotModified());
+		verify(auctionService, times(2)).findActiveAuctions(anyInt(), anyInt(), any(), any(), any(), any(), any(), any());
+	}
+
+	private static UserAuctionItem item(long id) {
+		return new UserAuctionItem(id, "Item " + id, new BigDecimal("10.00"), "פעיל", 3, CURSOR.sortKey().toString());
+	}
+}
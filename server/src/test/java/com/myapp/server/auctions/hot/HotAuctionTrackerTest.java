@@ -0,0 +1,93 @@
+package com.myapp.server.auctions.hot;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotAuctionTrackerTest {
+
+	@Test
+	void sketch_countsExactlyWithoutCollisions() {
+		HotAuctionTracker tracker = tracker(5, 1);
+
+		hit(tracker, 1L, 50);
+		hit(tracker, 2L, 10);
+
+		assertThat(tracker.topAuctions()).containsExactly(
+			new HotAuctionTracker.HotAuction(1L, 50),
+			new HotAuctionTracker.HotAuction(2L, 10));
+	}
+
+	@Test
+	void topK_keepsTheHeaviestIds() {
+		HotAuctionTracker tracker = tracker(3, 1);
+
+		for (long id = 1; id <= 10; id++) {
+			hit(tracker, id, (int) id * 10);
+		}
+
+		assertThat(tracker.topAuctions()).extracting(HotAuctionTracker.HotAuction::auctionId).containsExactly(10L, 9L, 8L);
+	}
+
+	@Test
+	void longTail_doesNotDisplaceLeaders() {
+		HotAuctionTracker tracker = tracker(2, 1);
+		hit(tracker, 1L, 50);
+		hit(tracker, 2L, 50);
+
+		for (long id = 1_000; id < 2_000; id++) {
+			tracker.record(id);
+		}
+
+		assertThat(tracker.topAuctions()).extracting(HotAuctionTracker.HotAuction::auctionId).containsExactlyInAnyOrder(1L, 2L);
+	}
+
+	@Test
+	void hotSet_needsMinHits_andOnlyChangesOnRefresh() {
+		HotAuctionTracker tracker = tracker(5, 100);
+		hit(tracker, 1L, 100);
+		hit(tracker, 2L, 99);
+
+		assertThat(tracker.isHot(1L)).isFalse();
+		assertThat(tracker.refreshHotSet()).containsExactly(1L);
+		assertThat(tracker.isHot(1L)).isTrue();
+		assertThat(tracker.isHot(2L)).isFalse();
+	}
+
+	@Test
+	void decay_halvesCounts_andDropsIdsThatReachZero() {
+		HotAuctionTracker tracker = tracker(5, 1);
+		hit(tracker, 1L, 8);
+		hit(tracker, 2L, 1);
+
+		tracker.decay();
+
+		assertThat(tracker.topAuctions()).containsExactly(new HotAuctionTracker.HotAuction(1L, 4));
+	}
+
+	@Test
+	void decay_letsRecentTrafficOvertakeStaleLeaders() {
+		HotAuctionTracker tracker = tracker(2, 1);
+		hit(tracker, 1L, 64);
+		hit(tracker, 2L, 64);
+		for (int i = 0; i < 3; i++) {
+			tracker.decay();
+		}
+
+		hit(tracker, 3L, 20);
+
+		assertThat(tracker.topAuctions()).first().isEqualTo(new HotAuctionTracker.HotAuction(3L, 20));
+		assertThat(tracker.topAuctions()).hasSize(2);
+	}
+
+	private static HotAuctionTracker tracker(int topK, long minHits) {
+		return new HotAuctionTracker(new SimpleMeterRegistry(), 4096, topK, minHits);
+	}
+
+	private static void hit(HotAuctionTracker tracker, long auctionId, int times) {
+		for (int i = 0; i < times; i++) {
+			tracker.record(auctionId);
+		}
+	}
+}
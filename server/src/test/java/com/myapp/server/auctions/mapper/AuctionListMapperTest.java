@@ -0,0 +1,72 @@
+package com.myapp.server.auctions.mapper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.myapp.server.auctions.dto.AuctionListItem;
+import com.myapp.server.auctions.entity.Auction;
+import com.myapp.server.auctions.entity.enums.AuctionCondition;
+import com.myapp.server.auctions.repository.AuctionListRow;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuctionListMapperTest {
+
+	private static final OffsetDateTime T0 = OffsetDateTime.parse("2026-01-01T12:00:00Z");
+	private static final String IMAGES = "[\"/img/1.jpg\",\"/img/2.jpg\"]";
+
+	private final AuctionListMapper mapper = new AuctionListMapper(new ImageUrlsCache(new ObjectMapper(), 100));
+
+	@Test
+	void projectedRow_mapsLikeTheEntity() {
+		for (BigDecimal currentBid : new BigDecimal[] {null, new BigDecimal("25")}) {
+			AuctionListItem fromRow = mapper.toAuctionListItem(row(currentBid));
+			AuctionListItem fromEntity = mapper.toAuctionListItem(entity(currentBid));
+
+			assertThat(fromRow).isEqualTo(fromEntity);
+		}
+	}
+
+	@Test
+	void minBidToPlace_isTheMinPriceUntilTheFirstBid() {
+		assertThat(mapper.toAuctionListItem(row(null)).minBidToPlace()).isEqualByComparingTo("10");
+		assertThat(mapper.toAuctionListItem(row(null)).currentBidAmount()).isEqualByComparingTo("10");
+		assertThat(mapper.toAuctionListItem(row(new BigDecimal("25"))).minBidToPlace()).isEqualByComparingTo("27");
+	}
+
+	@Test
+	void imageUrls_areParsedOncePerVersion() {
+		List<String> first = mapper.toAuctionListItem(row(null)).imageUrls();
+		List<String> second = mapper.toAuctionListItem(row(null)).imageUrls();
+
+		assertThat(first).containsExactly("/img/1.jpg", "/img/2.jpg");
+		assertThat(second).isSameAs(first);
+	}
+
+	private static AuctionListRow row(BigDecimal currentBid) {
+		return new AuctionListRow(1L, "Camera", "Mint", AuctionCondition.LIKE_NEW, "electronics", IMAGES,
+			BigDecimal.TEN, new BigDecimal("2"), currentBid, currentBid == null ? 0 : 3, T0.plusDays(1), 9L, T0, T0);
+	}
+
+	private static Auction entity(BigDecimal currentBid) {
+		Auction auction = new Auction();
+		auction.setId(1L);
+		auction.setTitle("Camera");
+		auction.setDescription("Mint");
+		auction.setCondition(AuctionCondition.LIKE_NEW);
+		auction.setCategories("electronics");
+		auction.setImageUrls(IMAGES);
+		auction.setMinPrice(BigDecimal.TEN);
+		auction.setBidIncrement(new BigDecimal("2"));
+		auction.setCurrentBidAmount(currentBid);
+		auction.setBidsCount(currentBid == null ? 0 : 3);
+		auction.setEndDate(T0.plusDays(1));
+		auction.setSellerId(9L);
+		auction.setCreatedAt(T0);
+		auction.setUpdatedAt(T0);
+		return auction;
+	}
+}
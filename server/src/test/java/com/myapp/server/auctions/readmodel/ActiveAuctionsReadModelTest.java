@@ -0,0 +1,100 @@
+package com.myapp.server.auctions.readmodel;
+
+import com.myapp.server.auctions.dto.AuctionListItem;
+import com.myapp.server.auctions.entity.enums.AuctionCondition;
+import com.myapp.server.auctions.event.AuctionPriceChangedEvent;
+import com.myapp.server.auctions.mapper.AuctionDetailMapper;
+import com.myapp.server.auctions.mapper.AuctionListMapper;
+import com.myapp.server.auctions.repository.AuctionListRow;
+import com.myapp.server.auctions.repository.AuctionRepository;
+import com.myapp.server.auctions.service.policy.AuctionValidationPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ActiveAuctionsReadModelTest {
+
+	private static final OffsetDateTime NOW = OffsetDateTime.parse("2026-01-01T12:00:00Z");
+
+	private final AuctionRepository repository = mock(AuctionRepository.class);
+	private final AuctionListMapper mapper = mock(AuctionListMapper.class);
+	private ActiveAuctionsReadModel readModel;
+
+	@BeforeEach
+	void setUp() {
+		when(mapper.toAuctionListItem(any(AuctionListRow.class))).thenAnswer(inv -> {
+			AuctionListRow row = inv.getArgument(0);
+			return new AuctionListItem(row.id(), row.title(), row.description(), row.condition().getValue(), row.categories(),
+				row.minPrice(), row.bidIncrement(), row.currentBidAmount(), row.bidsCount(), null, row.endDate(), List.of());
+		});
+		readModel = new ActiveAuctionsReadModel(repository, mapper, mock(AuctionDetailMapper.class), new AuctionValidationPolicy());
+	}
+
+	@Test
+	void priceChange_keepsOrderAndServesTheNewPrice() {
+		load(row(1L, "a", 1), row(2L, "b", 2));
+		assertThat(ids(null)).containsExactly(1L, 2L);
+
+		readModel.onPriceChanged(new AuctionPriceChangedEvent(2L, new BigDecimal("50"), 1, 7L, null, NOW.plusMinutes(1)));
+
+		List<AuctionListItem> items = listing(null);
+		assertThat(items).extracting(AuctionListItem::id).containsExactly(1L, 2L);
+		assertThat(items.get(1).currentBidAmount()).isEqualByComparingTo("50");
+	}
+
+	@Test
+	void endDateChange_reordersTheListing() {
+		load(row(1L, "a", 1), row(2L, "b", 2));
+		assertThat(ids(null)).containsExactly(1L, 2L);
+
+		readModel.onPriceChanged(new AuctionPriceChangedEvent(1L, new BigDecimal("50"), 1, 7L, NOW.plusHours(3), NOW.plusMinutes(1)));
+
+		assertThat(ids(null)).containsExactly(2L, 1L);
+	}
+
+	@Test
+	void search_treatsLikeWildcardsLiterally() {
+		load(row(1L, "100% cotton", 1), row(2L, "1000 cotton", 2), row(3L, "snake_case", 3), row(4L, "snakeXcase", 4));
+
+		assertThat(ids("100%")).containsExactly(1L);
+		assertThat(ids("snake_case")).containsExactly(3L);
+	}
+
+	@Test
+	void listingVersion_isNullUntilLoaded_andMovesOnEveryChange() {
+		assertThat(readModel.listingVersion()).isNull();
+		load(row(1L, "a", 1));
+		String loaded = readModel.listingVersion();
+		assertThat(loaded).isNotNull();
+
+		readModel.onPriceChanged(new AuctionPriceChangedEvent(1L, new BigDecimal("50"), 1, 7L, null, NOW.plusMinutes(1)));
+
+		assertThat(readModel.listingVersion()).isNotNull().isNotEqualTo(loaded);
+	}
+
+	private void load(AuctionListRow... rows) {
+		when(repository.findAllActiveAuctionRows()).thenReturn(List.of(rows));
+		readModel.refresh();
+	}
+
+	private List<Long> ids(String search) {
+		return listing(search).stream().map(AuctionListItem::id).toList();
+	}
+
+	private List<AuctionListItem> listing(String search) {
+		return readModel.findActiveAuctions(0, 10, null, null, null, null, search, null).getContent();
+	}
+
+	private static AuctionListRow row(long id, String title, int endsInHours) {
+		return new AuctionListRow(id, title, null, AuctionCondition.NEW, null, null, BigDecimal.TEN, BigDecimal.ONE,
+			null, 0, NOW.plusHours(endsInHours), 99L, NOW, NOW);
+	}
+}
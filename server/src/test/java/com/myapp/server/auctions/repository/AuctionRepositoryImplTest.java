@@ -0,0 +1,111 @@
+package com.myapp.server.auctions.repository;
+
+import com.myapp.server.auctions.repository.impl.ActiveAuctionsPaging;
+import com.myapp.server.auctions.repository.impl.ActiveAuctionsSearchQueries;
+import com.myapp.server.auctions.repository.impl.AuctionClosingQueries;
+import com.myapp.server.auctions.repository.impl.AuctionDetailQueries;
+import com.myapp.server.auctions.repository.impl.UserAuctionsQueries;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuctionRepositoryImplTest {
+
+	private final ActiveAuctionsSearchQueries searchQueries = mock(ActiveAuctionsSearchQueries.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	@BeforeEach
+	void setUp() {
+		when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+	}
+
+	@AfterEach
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void count_runsWhileThePageQueryRuns() {
+		CountDownLatch pageStarted = new CountDownLatch(1);
+		when(searchQueries.findActiveAuctionRowsExcludeSeller(any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
+			.thenAnswer(inv -> {
+				pageStarted.countDown();
+				return List.of();
+			});
+		// Only finishes if the page query started meanwhile; run one after the other, it would time out
+		when(searchQueries.countActiveAuctionsFilteredNoSearchExcludeSeller(any(), any(), any(), any(), any()))
+			.thenAnswer(inv -> pageStarted.await(2, TimeUnit.SECONDS) ? 42L : -1L);
+
+		Page<AuctionListRow> page = repository(4, 5000).findActiveAuctionRows(PageRequest.of(0, 20), null, null, null, null, null, null);
+
+		assertThat(page.getTotalElements()).isEqualTo(42L);
+	}
+
+	@Test
+	void count_runsInline_pastTheConcurrencyCap() {
+		when(searchQueries.findActiveAuctionRowsExcludeSeller(any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
+			.thenReturn(List.of());
+		when(searchQueries.countActiveAuctionsFilteredNoSearchExcludeSeller(any(), any(), any(), any(), any()))
+			.thenAnswer(inv -> Thread.currentThread().isVirtual() ? -1L : 7L);
+
+		Page<AuctionListRow> page = repository(0, 5000).findActiveAuctionRows(PageRequest.of(0, 20), null, null, null, null, null, null);
+
+		assertThat(page.getTotalElements()).isEqualTo(7L);
+	}
+
+	@Test
+	void slowCount_timesOut_andReleasesItsPermit() {
+		when(searchQueries.findActiveAuctionRowsExcludeSeller(any(), any(), any(), any(), any(), any(), anyInt(), anyInt()))
+			.thenReturn(List.of());
+		when(searchQueries.countActiveAuctionsFilteredNoSearchExcludeSeller(any(), any(), any(), any(), any()))
+			.thenAnswer(inv -> {
+				Thread.sleep(5000);
+				return 1L;
+			})
+			.thenReturn(3L);
+		AuctionRepositoryImpl repository = repository(1, 100);
+
+		assertThatThrownBy(() -> repository.findActiveAuctionRows(PageRequest.of(0, 20), null, null, null, null, null, null))
+			.isInstanceOf(QueryTimeoutException.class);
+		assertThat(repository.findActiveAuctionRows(PageRequest.of(0, 20), null, null, null, null, null, null).getTotalElements())
+			.isEqualTo(3L);
+	}
+
+	@Test
+	void countFailure_propagates() {
+		when(searchQueries.findActiveAuctionRowsExcludeSeller(any(), any(), any(), any(), any(), isNull(), anyInt(), anyInt()))
+			.thenReturn(List.of());
+		when(searchQueries.countActiveAuctionsFilteredNoSearchExcludeSeller(any(), any(), any(), any(), any()))
+			.thenThrow(new IllegalStateException("count failed"));
+
+		assertThatThrownBy(() -> repository(4, 5000).findActiveAuctionRows(PageRequest.of(0, 20), null, null, null, null, null, null))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("count failed");
+	}
+
+	private AuctionRepositoryImpl repository(int maxParallelCounts, long countTimeoutMs) {
+		return new AuctionRepositoryImpl(searchQueries, new ActiveAuctionsPaging(), mock(AuctionDetailQueries.class),
+			mock(UserAuctionsQueries.class), mock(AuctionClosingQueries.class), executor, transactionManager,
+			maxParallelCounts, countTimeoutMs);
+	}
+}
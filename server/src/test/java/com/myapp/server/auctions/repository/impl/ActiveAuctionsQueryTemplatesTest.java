@@ -0,0 +1,93 @@
+package com.myapp.server.auctions.repository.impl;
+
+import com.myapp.server.auctions.entity.enums.AuctionCondition;
+import com.myapp.server.auctions.repository.AuctionListRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ActiveAuctionsQueryTemplatesTest {
+
+	@Test
+	void mask_setsOneBitPerActiveFilter() {
+		assertThat(new ActiveAuctionsQueryTemplates.Filter(null, null, null, null, null, null).mask()).isZero();
+		assertThat(new ActiveAuctionsQueryTemplates.Filter(null, null, null, List.of(), null, null).mask()).isZero();
+		assertThat(new ActiveAuctionsQueryTemplates.Filter("cars", BigDecimal.ONE, BigDecimal.TEN,
+			List.of(AuctionCondition.NEW), 5L, "red").mask()).isEqualTo(63);
+		assertThat(new ActiveAuctionsQueryTemplates.Filter(null, BigDecimal.ONE, null, null, null, "red").mask())
+			.isEqualTo(ActiveAuctionsQueryTemplates.MIN_PRICE | ActiveAuctionsQueryTemplates.SEARCH);
+	}
+
+	@Test
+	void everyShape_isCompiledOnceAtStartup() {
+		EntityManagerFactory factory = mock(EntityManagerFactory.class);
+		EntityManager compiler = mock(EntityManager.class);
+		when(factory.createEntityManager()).thenReturn(compiler);
+		ArgumentCaptor<String> jpql = ArgumentCaptor.forClass(String.class);
+		when(compiler.createQuery(jpql.capture(), any(Class.class))).thenReturn(mock(TypedQuery.class));
+
+		new ActiveAuctionsQueryTemplates(mock(EntityManager.class), factory, new SimpleMeterRegistry());
+
+		verify(factory, times(3 * 64)).addNamedQuery(anyString(), any(Query.class));
+		verify(compiler).close();
+		assertThat(jpql.getAllValues()).contains(
+			"SELECT COUNT(a) FROM Auction a WHERE a.status = :status",
+			ActiveAuctionsQueryTemplates.LIST_ROW_SELECT + " WHERE a.status = :status ORDER BY a.endDate ASC, a.id ASC");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void list_runsTheMatchingTemplate_withItsParametersAndTimer() {
+		EntityManagerFactory factory = mock(EntityManagerFactory.class);
+		EntityManager compiler = mock(EntityManager.class);
+		when(factory.createEntityManager()).thenReturn(compiler);
+		when(compiler.createQuery(anyString(), any(Class.class))).thenReturn(mock(TypedQuery.class));
+		EntityManager entityManager = mock(EntityManager.class);
+		TypedQuery<AuctionListRow> query = mock(TypedQuery.class);
+		int mask = ActiveAuctionsQueryTemplates.CATEGORY | ActiveAuctionsQueryTemplates.SEARCH;
+		when(entityManager.createNamedQuery("ActiveAuctions.rows#" + mask, AuctionListRow.class)).thenReturn(query);
+		when(query.getResultList()).thenReturn(List.of());
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		ActiveAuctionsQueryTemplates templates = new ActiveAuctionsQueryTemplates(entityManager, factory, meterRegistry);
+
+		templates.list(ActiveAuctionsQueryTemplates.Kind.ROWS, AuctionListRow.class,
+			new ActiveAuctionsQueryTemplates.Filter("cars", null, null, null, null, "50%"), 40, 20);
+
+		verify(query).setParameter(eq("categoryPattern"), eq("%cars%"));
+		verify(query).setParameter(eq("searchPattern"), eq("%50\\%%"));
+		verify(query, never()).setParameter(eq("minPrice"), any());
+		verify(query).setFirstResult(40);
+		verify(query).setMaxResults(20);
+		assertThat(meterRegistry.get("auctions.search.template").tag("template", "category+search").tag("kind", "rows")
+			.timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void containsPattern_escapesLikeWildcards() {
+		assertThat(ActiveAuctionsQueryTemplates.containsPattern("100%")).isEqualTo("%100\\%%");
+		assertThat(ActiveAuctionsQueryTemplates.containsPattern("snake_case")).isEqualTo("%snake\\_case%");
+		assertThat(ActiveAuctionsQueryTemplates.containsPattern("a\\b")).isEqualTo("%a\\\\b%");
+	}
+
+	@Test
+	void containsPattern_leavesPlainTextAlone() {
+		assertThat(ActiveAuctionsQueryTemplates.containsPattern("phone")).isEqualTo("%phone%");
+	}
+}
@@ -0,0 +1,97 @@
+package com.myapp.server.auctions.service;
+
+import com.myapp.server.auctions.entity.enums.AuctionStatus;
+import com.myapp.server.auctions.event.AuctionPriceChangedEvent;
+import com.myapp.server.auctions.event.AuctionsClosedEvent;
+import com.myapp.server.auctions.repository.AuctionRepository;
+import com.myapp.server.common.cluster.ClusterCoordinator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuctionCloseSchedulerTest {
+
+	private final AuctionRepository repository = mock(AuctionRepository.class);
+	private final AuctionStatusUpdateService statusUpdateService = mock(AuctionStatusUpdateService.class);
+	private final ClusterCoordinator clusterCoordinator = mock(ClusterCoordinator.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private AuctionCloseScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		scheduler = new AuctionCloseScheduler(repository, statusUpdateService, clusterCoordinator, meterRegistry, 5);
+		scheduler.start();
+	}
+
+	@AfterEach
+	void stop() {
+		scheduler.stop();
+	}
+
+	@Test
+	void armedAuction_isClosedAtItsEndDate() {
+		when(statusUpdateService.closeIfDue(1L)).thenReturn(true);
+
+		scheduler.arm(1L, OffsetDateTime.now().plusNanos(200_000_000));
+
+		verify(statusUpdateService, after(100).never()).closeIfDue(anyLong());
+		verify(statusUpdateService, timeout(2000)).closeIfDue(1L);
+	}
+
+	@Test
+	void movedEndDate_supersedesTheEarlierEntry() {
+		OffsetDateTime end = OffsetDateTime.now().plusNanos(100_000_000);
+		scheduler.arm(1L, end);
+		scheduler.onPriceChanged(new AuctionPriceChangedEvent(1L, BigDecimal.TEN, 1, 7L, end.plusSeconds(60), end));
+
+		verify(statusUpdateService, after(500).never()).closeIfDue(anyLong());
+	}
+
+	@Test
+	void closedAuction_isDisarmed() {
+		OffsetDateTime end = OffsetDateTime.now().plusNanos(200_000_000);
+		scheduler.arm(1L, end);
+		scheduler.onAuctionsClosed(new AuctionsClosedEvent(List.of(1L), OffsetDateTime.now()));
+
+		verify(statusUpdateService, after(500).never()).closeIfDue(anyLong());
+	}
+
+	@Test
+	void failedClose_isRetried() {
+		when(statusUpdateService.closeIfDue(1L))
+			.thenThrow(new IllegalStateException("database down"))
+			.thenReturn(true);
+
+		scheduler.arm(1L, OffsetDateTime.now());
+
+		verify(statusUpdateService, timeout(3000).times(2)).closeIfDue(1L);
+	}
+
+	@Test
+	void feed_armsOnlyThisNodesShard() {
+		when(clusterCoordinator.shard()).thenReturn(new ClusterCoordinator.Shard(1, 3));
+		scheduler.feed();
+		verify(repository).findEndDatesForShard(eq(AuctionStatus.ACTIVE), any(), eq(3), eq(1));
+
+		when(clusterCoordinator.shard()).thenReturn(new ClusterCoordinator.Shard(-1, 1));
+		scheduler.feed();
+		verify(repository, times(1)).findEndDatesForShard(any(), any(), any(Integer.class), any(Integer.class));
+		verify(statusUpdateService, never()).closeIfDue(anyLong());
+	}
+}
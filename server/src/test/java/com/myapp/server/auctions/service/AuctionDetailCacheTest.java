@@ -0,0 +1,86 @@
+package com.myapp.server.auctions.service;
+
+import com.myapp.server.auctions.dto.AuctionDetail;
+import com.myapp.server.auctions.event.AuctionPriceChangedEvent;
+import com.myapp.server.auctions.event.AuctionsClosedEvent;
+import com.myapp.server.auctions.event.RemoteAuctionChangesEvent;
+import com.myapp.server.auctions.hot.HotAuctionTracker;
+import com.myapp.server.auctions.readmodel.ActiveAuctionsReadModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuctionDetailCacheTest {
+
+	private static final OffsetDateTime V0 = OffsetDateTime.parse("2026-01-01T12:00:00Z");
+
+	private final AuctionQueryService queryService = mock(AuctionQueryService.class);
+	private final ActiveAuctionsReadModel readModel = mock(ActiveAuctionsReadModel.class);
+	private AuctionDetailCache cache;
+
+	@BeforeEach
+	void setUp() {
+		when(readModel.findAuctionDetail(anyLong())).thenReturn(Optional.empty());
+		when(queryService.findVersionedAuctionDetail(1L)).thenReturn(new VersionedAuctionDetail(detail(2), V0));
+		cache = new AuctionDetailCache(queryService, readModel, mock(HotAuctionTracker.class), new SimpleMeterRegistry(), 100, 30);
+		cache.get(1L);
+	}
+
+	@Test
+	void priceChange_updatesTheEntryInPlace() {
+		cache.onPriceChanged(new AuctionPriceChangedEvent(1L, new BigDecimal("30"), 3, 7L, null, V0.plusSeconds(1)));
+
+		VersionedAuctionDetail cached = cache.get(1L);
+		assertThat(cached.detail().currentBidAmount()).isEqualByComparingTo("30");
+		assertThat(cached.detail().bidsCount()).isEqualTo(3);
+		assertThat(cached.detail().minBidToPlace()).isEqualByComparingTo("31");
+		assertThat(cached.version()).isEqualTo(V0.plusSeconds(1));
+		verify(queryService, times(1)).findVersionedAuctionDetail(1L);
+	}
+
+	@Test
+	void olderPriceChange_arrivingLate_isIgnored() {
+		cache.onPriceChanged(new AuctionPriceChangedEvent(1L, new BigDecimal("40"), 4, 8L, null, V0.plusSeconds(2)));
+		cache.onPriceChanged(new AuctionPriceChangedEvent(1L, new BigDecimal("30"), 3, 7L, null, V0.plusSeconds(1)));
+
+		VersionedAuctionDetail cached = cache.get(1L);
+		assertThat(cached.detail().currentBidAmount()).isEqualByComparingTo("40");
+		assertThat(cached.detail().bidsCount()).isEqualTo(4);
+		assertThat(cached.version()).isEqualTo(V0.plusSeconds(2));
+	}
+
+	@Test
+	void close_marksTheEntrySoldWhenItHasBids() {
+		cache.onAuctionsClosed(new AuctionsClosedEvent(List.of(1L), V0.plusSeconds(5)));
+
+		VersionedAuctionDetail cached = cache.get(1L);
+		assertThat(cached.detail().status()).isEqualTo("SOLD");
+		assertThat(cached.version()).isEqualTo(V0.plusSeconds(5));
+	}
+
+	@Test
+	void remoteChange_evictsOnlyOlderEntries() {
+		cache.onRemoteChanges(new RemoteAuctionChangesEvent(List.of(1L), V0, false));
+		assertThat(cache.findCachedVersion(1L)).isEqualTo(V0);
+
+		cache.onRemoteChanges(new RemoteAuctionChangesEvent(List.of(1L), V0.plusSeconds(1), false));
+		assertThat(cache.findCachedVersion(1L)).isNull();
+	}
+
+	private static AuctionDetail detail(int bidsCount) {
+		return new AuctionDetail(1L, "t", "d", "new", BigDecimal.TEN, BigDecimal.ONE, new BigDecimal("20"), bidsCount,
+			new BigDecimal("21"), V0.plusHours(1), List.of(), 99L, "ACTIVE");
+	}
+}
@@ -0,0 +1,67 @@
+package com.myapp.server.auctions.service;
+
+import com.myapp.server.auctions.dto.UserAuctionItem;
+import com.myapp.server.auctions.dto.UserAuctionPage;
+import com.myapp.server.auctions.entity.enums.AuctionStatus;
+import com.myapp.server.auctions.mapper.AuctionDetailMapper;
+import com.myapp.server.auctions.mapper.AuctionListMapper;
+import com.myapp.server.auctions.repository.AuctionRepository;
+import com.myapp.server.auctions.repository.UserAuctionRow;
+import com.myapp.server.auctions.service.policy.AuctionValidationPolicy;
+import com.myapp.server.common.web.PageCursor;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuctionQueryServiceTest {
+
+	private static final OffsetDateTime T0 = OffsetDateTime.of(2026, 1, 1, 12, 0, 0, 123_456_000, ZoneOffset.ofHours(2));
+
+	private final AuctionRepository repository = mock(AuctionRepository.class);
+	private final AuctionQueryService service = new AuctionQueryService(
+		repository, mock(AuctionDetailMapper.class), mock(AuctionListMapper.class), new AuctionValidationPolicy());
+
+	@Test
+	void sellerPages_followTheCursorThroughItsEncodedForm() {
+		when(repository.findSellerAuctionsPage(eq(7L), isNull(), isNull(), isNull(), eq(3)))
+			.thenReturn(List.of(row(5, 0), row(4, 1), row(3, 2)));
+		when(repository.findSellerAuctionsPage(eq(7L), isNull(), eq(T0.minusMinutes(1).withOffsetSameInstant(ZoneOffset.UTC)), eq(4L), eq(3)))
+			.thenReturn(List.of(row(3, 2)));
+
+		UserAuctionPage first = service.getUserAuctions(7L, null, null, 2);
+		assertThat(first.items()).extracting(UserAuctionItem::id).containsExactly(5L, 4L);
+		assertThat(first.nextCursor()).isEqualTo(new PageCursor(T0.minusMinutes(1), 4L));
+
+		// As the client sends it back in the cursor parameter
+		PageCursor after = PageCursor.decode(first.nextCursor().encode());
+		UserAuctionPage second = service.getUserAuctions(7L, "", after, 2);
+
+		assertThat(second.items()).extracting(UserAuctionItem::id).containsExactly(3L);
+		assertThat(second.nextCursor()).isNull();
+	}
+
+	@Test
+	void sellerPages_passTheStatusFilter() {
+		when(repository.findSellerAuctionsPage(eq(7L), eq(AuctionStatus.ACTIVE), isNull(), isNull(), eq(21)))
+			.thenReturn(List.of(row(1, 0)));
+
+		UserAuctionPage page = service.getUserAuctions(7L, "ACTIVE", null, 20);
+
+		assertThat(page.items()).extracting(UserAuctionItem::auctionStatus).containsExactly("פעיל");
+		assertThat(page.nextCursor()).isNull();
+	}
+
+	// Newer auctions have higher ids; created minutesAgo before T0
+	private static UserAuctionRow row(long id, int minutesAgo) {
+		return new UserAuctionRow(id, "Item " + id, AuctionStatus.ACTIVE, 0, T0.plusDays(1), BigDecimal.TEN, T0.minusMinutes(minutesAgo));
+	}
+}
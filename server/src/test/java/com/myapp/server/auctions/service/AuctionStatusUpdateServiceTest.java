@@ -0,0 +1,83 @@
+package com.myapp.server.auctions.service;
+
+import com.myapp.server.auctions.event.AuctionsClosedEvent;
+import com.myapp.server.auctions.repository.AuctionRepository;
+import com.myapp.server.common.cluster.ClusterCoordinator;
+import com.myapp.server.common.outbox.OutboxWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AuctionStatusUpdateServiceTest {
+
+	private final AuctionRepository repository = mock(AuctionRepository.class);
+	private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+	private final ClusterCoordinator clusterCoordinator = mock(ClusterCoordinator.class);
+	private final OutboxWriter outboxWriter = mock(OutboxWriter.class);
+	private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+	private final AuctionStatusUpdateService service = new AuctionStatusUpdateService(
+		repository, eventPublisher, clusterCoordinator, outboxWriter, transactionManager, 2);
+
+	@BeforeEach
+	void leaderRunsJobs() {
+		when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+		when(clusterCoordinator.runIfLeader(anyString(), any())).thenAnswer(inv -> {
+			inv.<Runnable>getArgument(1).run();
+			return true;
+		});
+	}
+
+	@Test
+	void closesInChunks_untilAChunkComesBackShort() {
+		when(repository.closeExpiredChunk(any(), anyInt()))
+			.thenReturn(List.of(1L, 2L))
+			.thenReturn(List.of(3L));
+
+		service.updateExpiredAuctions();
+
+		verify(repository, times(2)).closeExpiredChunk(any(), anyInt());
+		// One transaction, one event and one outbox row per chunk
+		verify(transactionManager, times(2)).commit(any());
+		ArgumentCaptor<AuctionsClosedEvent> events = ArgumentCaptor.forClass(AuctionsClosedEvent.class);
+		verify(eventPublisher, times(2)).publishEvent(events.capture());
+		assertThat(events.getAllValues()).extracting(AuctionsClosedEvent::auctionIds)
+			.containsExactly(List.of(1L, 2L), List.of(3L));
+		verify(outboxWriter, times(2)).append(any(AuctionsClosedEvent.class), isNull());
+	}
+
+	@Test
+	void emptyChunk_publishesNothing() {
+		when(repository.closeExpiredChunk(any(), anyInt())).thenReturn(List.of());
+
+		service.updateExpiredAuctions();
+
+		verifyNoInteractions(eventPublisher, outboxWriter);
+	}
+
+	@Test
+	void followers_skipTheSweep() {
+		doReturn(false).when(clusterCoordinator).runIfLeader(anyString(), any());
+
+		service.updateExpiredAuctions();
+
+		verify(repository, never()).closeExpiredChunk(any(), anyInt());
+	}
+}
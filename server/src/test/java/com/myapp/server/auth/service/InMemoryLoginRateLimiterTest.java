@@ -0,0 +1,87 @@
+package com.myapp.server.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class InMemoryLoginRateLimiterTest {
+
+	private static final long WINDOW_MS = 1_000;
+
+	@Test
+	void window_countsFailuresWithinTheCurrentWindow() {
+		InMemoryLoginRateLimiter.Window window = new InMemoryLoginRateLimiter.Window();
+		window.increment(1_100, WINDOW_MS);
+		window.increment(1_900, WINDOW_MS);
+
+		assertThat(window.estimate(1_999, WINDOW_MS)).isCloseTo(2.0, within(1e-9));
+	}
+
+	@Test
+	void window_weightsThePreviousWindowByItsRemainingOverlap() {
+		InMemoryLoginRateLimiter.Window window = new InMemoryLoginRateLimiter.Window();
+		for (int i = 0; i < 4; i++) {
+			window.increment(1_500, WINDOW_MS);
+		}
+
+		// A quarter into the next window, three quarters of the previous one still overlap
+		assertThat(window.estimate(2_250, WINDOW_MS)).isCloseTo(3.0, within(1e-9));
+
+		window.increment(2_250, WINDOW_MS);
+		assertThat(window.estimate(2_500, WINDOW_MS)).isCloseTo(1 + 4 * 0.5, within(1e-9));
+	}
+
+	@Test
+	void window_forgetsEverythingAfterAFullIdleWindow() {
+		InMemoryLoginRateLimiter.Window window = new InMemoryLoginRateLimiter.Window();
+		window.increment(1_500, WINDOW_MS);
+
+		assertThat(window.estimate(3_000, WINDOW_MS)).isZero();
+		assertThat(window.previous).isZero();
+	}
+
+	@Test
+	void blocksAccountAtItsLimit_acrossEmailSpellings() {
+		InMemoryLoginRateLimiter limiter = limiter();
+		limiter.recordFailure("User@Example.com", "10.0.0.1");
+		limiter.recordFailure(" user@example.com", "10.0.0.2");
+		assertThat(limiter.isBlocked("user@example.com", "10.0.0.3")).isFalse();
+
+		limiter.recordFailure("USER@EXAMPLE.COM ", "10.0.0.4");
+
+		assertThat(limiter.isBlocked("user@example.com", "10.0.0.5")).isTrue();
+		assertThat(limiter.isBlocked("other@example.com", "10.0.0.5")).isFalse();
+	}
+
+	@Test
+	void blocksIpAcrossAccounts_andResetKeepsTheIpCount() {
+		InMemoryLoginRateLimiter limiter = limiter();
+		for (int i = 0; i < 5; i++) {
+			limiter.recordFailure("user" + i + "@example.com", "10.0.0.1");
+		}
+
+		assertThat(limiter.isBlocked("fresh@example.com", "10.0.0.1")).isTrue();
+		assertThat(limiter.isBlocked("fresh@example.com", "10.0.0.2")).isFalse();
+
+		limiter.reset("user0@example.com", "10.0.0.1");
+		assertThat(limiter.isBlocked("user0@example.com", "10.0.0.1")).isTrue();
+	}
+
+	@Test
+	void resetClearsTheAccount() {
+		InMemoryLoginRateLimiter limiter = limiter();
+		for (int i = 0; i < 3; i++) {
+			limiter.recordFailure("user@example.com", "10.0.0." + i);
+		}
+
+		limiter.reset("user@example.com", "10.0.0.9");
+
+		assertThat(limiter.isBlocked("user@example.com", "10.0.0.9")).isFalse();
+	}
+
+	private static InMemoryLoginRateLimiter limiter() {
+		return new InMemoryLoginRateLimiter(new SimpleMeterRegistry(), 600, 3, 5, 1_000, 4);
+	}
+}
@@ -0,0 +1,62 @@
+package com.myapp.server.auth.service;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtServiceTest {
+
+	private static final String SECRET = "testSecretKeyThatIsAtLeast32BytesLongForHmac";
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void repeatedVerification_isServedFromTheCache() {
+		JwtService jwt = new JwtService(SECRET, 3600, 100, meterRegistry);
+		String token = jwt.generateToken("7", Map.of());
+
+		assertThat(jwt.getSubject(token)).isEqualTo("7");
+		assertThat(jwt.getSubject(token)).isEqualTo("7");
+
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "auth.jwt").tag("result", "hit").functionCounter().count())
+			.isEqualTo(1.0);
+	}
+
+	@Test
+	void cachedToken_isRejectedOnceItExpires() throws InterruptedException {
+		JwtService jwt = new JwtService(SECRET, 1, 100, meterRegistry);
+		String token = jwt.generateToken("7", Map.of());
+		assertThat(jwt.getSubject(token)).isEqualTo("7");
+
+		// exp has second precision; wait past it
+		Thread.sleep(2100);
+
+		assertThatThrownBy(() -> jwt.getSubject(token)).isInstanceOf(ExpiredJwtException.class);
+		assertThat(jwt.findSubject(token)).isNull();
+	}
+
+	@Test
+	void forgedToken_isRejected_andNeverCached() {
+		JwtService jwt = new JwtService(SECRET, 3600, 100, meterRegistry);
+		JwtService other = new JwtService("anotherSecretKeyThatIsAtLeast32BytesLong!!", 3600, 100, new SimpleMeterRegistry());
+		String forged = other.generateToken("7", Map.of());
+
+		assertThat(jwt.findSubject(forged)).isNull();
+		assertThat(jwt.findSubject(forged)).isNull();
+		assertThat(meterRegistry.get("cache.gets").tag("cache", "auth.jwt").tag("result", "hit").functionCounter().count())
+			.isZero();
+	}
+
+	@Test
+	void blankToken_meansNotSignedIn() {
+		JwtService jwt = new JwtService(SECRET, 3600, 100, meterRegistry);
+
+		assertThat(jwt.findSubject(null)).isNull();
+		assertThat(jwt.findSubject(" ")).isNull();
+	}
+}
@@ -0,0 +1,53 @@
+package com.myapp.server.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PasswordHasherTest {
+
+	@Test
+	void costFor_picksTheHighestCostThatFitsTheTarget() {
+		// 20 ms at cost 10 -> 40, 80, 160 ms at 11..13; 320 ms would overshoot 250
+		assertThat(PasswordHasher.costFor(20, 250, 10, 14)).isEqualTo(13);
+		assertThat(PasswordHasher.costFor(125, 250, 10, 14)).isEqualTo(11);
+	}
+
+	@Test
+	void costFor_staysWithinBounds() {
+		assertThat(PasswordHasher.costFor(500, 250, 10, 14)).isEqualTo(10);
+		assertThat(PasswordHasher.costFor(0, 250, 10, 14)).isEqualTo(14);
+	}
+
+	@Test
+	void hashesAndVerifies() {
+		PasswordHasher hasher = hasher(4);
+		try {
+			String hash = hasher.hash("secret-1");
+
+			assertThat(hash).startsWith("$2a$04$");
+			assertThat(hasher.matches("secret-1", hash)).isTrue();
+			assertThat(hasher.matches("secret-2", hash)).isFalse();
+		} finally {
+			hasher.shutdown();
+		}
+	}
+
+	@Test
+	void needsRehash_onlyUpgradesLowerCosts() {
+		PasswordHasher hasher = hasher(5);
+		try {
+			assertThat(hasher.needsRehash(new BCryptPasswordEncoder(4).encode("secret"))).isTrue();
+			assertThat(hasher.needsRehash(new BCryptPasswordEncoder(5).encode("secret"))).isFalse();
+			assertThat(hasher.needsRehash(new BCryptPasswordEncoder(6).encode("secret"))).isFalse();
+		} finally {
+			hasher.shutdown();
+		}
+	}
+
+	private static PasswordHasher hasher(int cost) {
+		return new PasswordHasher(new SimpleMeterRegistry(), 1, 10, 5_000, cost, 250, 10, 14);
+	}
+}
@@ -0,0 +1,82 @@
+package com.myapp.server.auth.service;
+
+import com.myapp.server.common.cluster.ClusterCoordinator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostgresLoginRateLimiterTest {
+
+	@Test
+	void refill_addsAFullBucketPerWindow() {
+		// 5 tokens per 600 s: one token every 120 s
+		assertThat(PostgresLoginRateLimiter.refill(0, 120, 5, 600)).isCloseTo(1.0, within(1e-9));
+		assertThat(PostgresLoginRateLimiter.refill(0.5, 60, 5, 600)).isCloseTo(1.0, within(1e-9));
+		assertThat(PostgresLoginRateLimiter.refill(2, 0, 5, 600)).isCloseTo(2.0, within(1e-9));
+	}
+
+	@Test
+	void refill_neverExceedsTheBucketSize() {
+		assertThat(PostgresLoginRateLimiter.refill(0, 6_000, 5, 600)).isEqualTo(5.0);
+		assertThat(PostgresLoginRateLimiter.refill(4.9, 120, 5, 600)).isEqualTo(5.0);
+	}
+
+	@Test
+	void emptyBucketBlocks_andIsServedFromTheNearCache() {
+		JdbcTemplate jdbc = mock(JdbcTemplate.class);
+		when(jdbc.queryForList(anyString(), eq(Double.class), any(Object[].class))).thenReturn(List.of(0.0));
+		PostgresLoginRateLimiter limiter = limiter(jdbc);
+
+		assertThat(limiter.isBlocked(null, "10.0.0.1")).isTrue();
+		assertThat(limiter.isBlocked(null, "10.0.0.1")).isTrue();
+
+		verify(jdbc, times(1)).queryForList(anyString(), eq(Double.class), any(Object[].class));
+	}
+
+	@Test
+	void unknownBucketIsFull() {
+		JdbcTemplate jdbc = mock(JdbcTemplate.class);
+		when(jdbc.queryForList(anyString(), eq(Double.class), any(Object[].class))).thenReturn(List.of());
+
+		assertThat(limiter(jdbc).isBlocked("user@example.com", "10.0.0.1")).isFalse();
+	}
+
+	@Test
+	void failureUpdatesTheNearCacheWithTheReturnedBalance() {
+		JdbcTemplate jdbc = mock(JdbcTemplate.class);
+		when(jdbc.queryForObject(anyString(), eq(Double.class), any(Object[].class))).thenReturn(0.0);
+		PostgresLoginRateLimiter limiter = limiter(jdbc);
+
+		limiter.recordFailure("user@example.com", null);
+
+		assertThat(limiter.isBlocked("User@Example.com", null)).isTrue();
+		verify(jdbc, times(0)).queryForList(anyString(), eq(Double.class), any(Object[].class));
+	}
+
+	@Test
+	void failsOpenWhenPostgresIsUnreachable() {
+		JdbcTemplate jdbc = mock(JdbcTemplate.class);
+		when(jdbc.queryForList(anyString(), eq(Double.class), any(Object[].class)))
+			.thenThrow(new DataAccessResourceFailureException("down"));
+
+		assertThat(limiter(jdbc).isBlocked("user@example.com", "10.0.0.1")).isFalse();
+	}
+
+	private static PostgresLoginRateLimiter limiter(JdbcTemplate jdbc) {
+		return new PostgresLoginRateLimiter(jdbc, mock(ClusterCoordinator.class), new SimpleMeterRegistry(),
+			600, 5, 50, 1_000, 60_000);
+	}
+}
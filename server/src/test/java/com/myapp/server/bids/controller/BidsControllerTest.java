@@ -0,0 +1,159 @@
+package com.myapp.server.bids.controller;
+
+import com.myapp.server.auctions.hot.HotAuctionInterceptor;
+import com.myapp.server.auctions.hot.HotAuctionTracker;
+import com.myapp.server.bids.dto.UserBidSummaryItem;
+import com.myapp.server.bids.dto.UserBidSummaryPage;
+import com.myapp.server.bids.service.AuctionPageService;
+import com.myapp.server.bids.service.BidsService;
+import com.myapp.server.common.auth.JwtTokenExtractor;
+import com.myapp.server.common.web.JsonStreamWriter;
+import com.myapp.server.common.web.PageCursor;
+import com.myapp.server.common.web.WireFormats;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BidsController.class)
+@Import({WireFormats.class, JsonStreamWriter.class, SimpleMeterRegistry.class, HotAuctionInterceptor.class})
+class BidsControllerTest {
+
+	private static final PageCursor CURSOR = new PageCursor(OffsetDateTime.of(2026, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC), 42);
+
+	@Autowired
+	private MockMvc mvc;
+
+	@MockitoBean
+	private JwtTokenExtractor jwtTokenExtractor;
+
+	@MockitoBean
+	private HotAuctionTracker hotAuctionTracker;
+
+	@MockitoBean
+	private BidsService bidsService;
+
+	@MockitoBean
+	private AuctionPageService auctionPageService;
+
+	@BeforeEach
+	void anonymousByDefault() {
+		when(jwtTokenExtractor.getCurrentUserId(any())).thenReturn(null);
+	}
+
+	@Test
+	void summary_rejectsAnonymousCallersWithTheErrorBody() throws Exception {
+		mvc.perform(get("/api/bids/my/summary"))
+			.andExpect(status().isUnauthorized())
+			.andExpect(jsonPath("$.status").value(401))
+			.andExpect(jsonPath("$.error").value("Unauthorized"))
+			.andExpect(jsonPath("$.message").value("Authentication required"))
+			.andExpect(jsonPath("$.timestamp").exists());
+
+		verifyNoInteractions(bidsService);
+	}
+
+	@Test
+	void summary_resolvesTheCaller_andSendsTheNextCursor() throws Exception {
+		when(jwtTokenExtractor.getCurrentUserId(any())).thenReturn(7L);
+		when(bidsService.getUserBidsSummary(eq(7L), isNull(), eq(100)))
+			.thenReturn(new UserBidSummaryPage(List.of(item(1L)), CURSOR));
+
+		mvc.perform(get("/api/bids/my/summary"))
+			.andExpect(status().isOk())
+			.andExpect(header().string(PageCursor.HEADER, CURSOR.encode()))
+			.andExpect(jsonPath("$[0].auctionId").value(1));
+	}
+
+	@Test
+	void summary_decodesTheCursor_andOmitsTheHeaderOnTheLastPage() throws Exception {
+		when(jwtTokenExtractor.getCurrentUserId(any())).thenReturn(7L);
+		when(bidsService.getUserBidsSummary(eq(7L), eq(CURSOR), eq(10)))
+			.thenReturn(new UserBidSummaryPage(List.of(item(2L)), null));
+
+		mvc.perform(get("/api/bids/my/summary").param("cursor", CURSOR.encode()).param("limit", "10"))
+			.andExpect(status().isOk())
+			.andExpect(header().doesNotExist(PageCursor.HEADER))
+			.andExpect(jsonPath("$[0].auctionId").value(2));
+	}
+
+	@Test
+	void summary_rejectsAMalformedCursor() throws Exception {
+		when(jwtTokenExtractor.getCurrentUserId(any())).thenReturn(7L);
+
+		mvc.perform(get("/api/bids/my/summary").param("cursor", "not-a-cursor"))
+			.andExpect(status().isBadRequest())
+			.andExpect(jsonPath("$.message").value("Invalid cursor"));
+	}
+
+	@Test
+	void auctionPage_passesNoCallerForAnonymousRequests() throws Exception {
+		mvc.perform(get("/api/auctions/5/page"))
+			.andExpect(status().isOk());
+
+		verify(auctionPageService).getAuctionPage(eq(5L), isNull(), anyInt());
+		verify(hotAuctionTracker).record(5L);
+	}
+
+	@Test
+	void auctionPage_passesTheSignedInCaller() throws Exception {
+		when(jwtTokenExtractor.getCurrentUserId(any())).thenReturn(7L);
+
+		mvc.perform(get("/api/auctions/5/page").param("history", "500"))
+			.andExpect(status().isOk());
+
+		verify(auctionPageService).getAuctionPage(anyLong(), eq(7L), eq(50));
+	}
+
+	@Test
+	void history_isStreamedAsAJsonArray() throws Exception {
+		doAnswer(invocation -> {
+			Consumer<BidsService.BidHistoryItem> sink = invocation.getArgument(1);
+			sink.accept(new BidsService.BidHistoryItem(1L, 10L, 7L, new BigDecimal("12.00"), CURSOR.sortKey(), "BID", "MANUAL"));
+			sink.accept(new BidsService.BidHistoryItem(2L, 11L, 8L, new BigDecimal("13.00"), CURSOR.sortKey(), "BID", "MANUAL"));
+			return null;
+		}).when(bidsService).streamHistory(eq(5L), any());
+
+		MvcResult started = mvc.perform(get("/api/auctions/5/bids/history"))
+			.andExpect(request().asyncStarted())
+			.andReturn();
+
+		mvc.perform(asyncDispatch(started))
+			.andExpect(status().isOk())
+			.andExpect(header().string("Content-Type", "application/json"))
+			.andExpect(jsonPath("$.length()").value(2))
+			.andExpect(jsonPath("$[1].snapshotId").value(2));
+	}
+
+	private static UserBidSummaryItem item(long auctionId) {
+		return new UserBidSummaryItem(auctionId, "Item " + auctionId, new BigDecimal("10.00"), new BigDecimal("12.00"),
+			CURSOR.sortKey(), true, "ACTIVE");
+	}
+}
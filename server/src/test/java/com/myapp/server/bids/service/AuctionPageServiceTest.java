@@ -0,0 +1,76 @@
+package com.myapp.server.bids.service;
+
+import com.myapp.server.auctions.service.AuctionService;
+import com.myapp.server.bids.dto.AuctionPageResponse;
+import com.myapp.server.bids.dto.CallerBidState;
+import com.myapp.server.bids.repository.BidsDao;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuctionPageServiceTest {
+
+	private final AuctionService auctionService = mock(AuctionService.class);
+	private final BidQueryService bidQueryService = mock(BidQueryService.class);
+	private final AuctionPageService service = new AuctionPageService(auctionService, bidQueryService, new BidsMapper(), new BiddingPolicy());
+
+	@Test
+	void anonymousCaller_getsNoBidState() {
+		when(bidQueryService.getAuctionPageState(1L, null, 10)).thenReturn(state(5L, null, "30", 2));
+
+		AuctionPageResponse page = service.getAuctionPage(1L, null, 10);
+
+		assertThat(page.you()).isNull();
+		assertThat(page.recentBids()).isEmpty();
+	}
+
+	@Test
+	void noBidsYet_minimumIsTheStartingPrice() {
+		when(bidQueryService.getAuctionPageState(1L, 7L, 10)).thenReturn(state(null, null, null, 0));
+
+		CallerBidState you = service.getAuctionPage(1L, 7L, 10).you();
+
+		assertThat(you.yourMax()).isNull();
+		assertThat(you.leading()).isFalse();
+		assertThat(you.minNextBid()).isEqualByComparingTo("10");
+	}
+
+	@Test
+	void challenger_mustBeatThePriceByOneIncrement() {
+		when(bidQueryService.getAuctionPageState(1L, 7L, 10)).thenReturn(state(5L, "25", "30", 3));
+
+		CallerBidState you = service.getAuctionPage(1L, 7L, 10).you();
+
+		assertThat(you.leading()).isFalse();
+		assertThat(you.yourMax()).isEqualByComparingTo("25");
+		assertThat(you.minNextBid()).isEqualByComparingTo("32");
+	}
+
+	@Test
+	void leader_mustRaiseAboveTheirOwnMax() {
+		when(bidQueryService.getAuctionPageState(1L, 7L, 10)).thenReturn(state(7L, "50.00", "30", 3));
+
+		CallerBidState you = service.getAuctionPage(1L, 7L, 10).you();
+
+		assertThat(you.leading()).isTrue();
+		// Same rule placement enforces: strictly above the previous max, and at least the challenger minimum
+		assertThat(you.minNextBid()).isEqualByComparingTo("50.01");
+	}
+
+	@Test
+	void leader_isStillHeldToTheChallengerMinimum() {
+		when(bidQueryService.getAuctionPageState(1L, 7L, 10)).thenReturn(state(7L, "30", "30", 3));
+
+		assertThat(service.getAuctionPage(1L, 7L, 10).you().minNextBid()).isEqualByComparingTo("32");
+	}
+
+	private static BidsDao.AuctionPageStateRow state(Long highestUserId, String callerMax, String currentBid, int bidsCount) {
+		return new BidsDao.AuctionPageStateRow(highestUserId, callerMax == null ? null : new BigDecimal(callerMax),
+			currentBid == null ? null : new BigDecimal(currentBid), BigDecimal.TEN, new BigDecimal("2"), bidsCount, List.of());
+	}
+}
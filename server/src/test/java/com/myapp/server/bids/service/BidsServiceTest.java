@@ -0,0 +1,80 @@
+package com.myapp.server.bids.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BidsServiceTest {
+
+	private final BidQueryService bidQueryService = mock(BidQueryService.class);
+	private final BidHistoryCache bidHistoryCache = mock(BidHistoryCache.class);
+	private final BidsService service = new BidsService(mock(BidPlacementService.class), bidQueryService, bidHistoryCache, 3);
+
+	@BeforeEach
+	void coldByDefault() {
+		// Mockito would answer an empty list, i.e. a hot auction without history
+		when(bidHistoryCache.getIfHot(anyLong())).thenReturn(null);
+	}
+
+	@Test
+	void streamHistory_readsKeysetChunksUntilAShortOne() {
+		List<BidsService.BidHistoryItem> first = items(1, 3);
+		List<BidsService.BidHistoryItem> second = items(4, 6);
+		List<BidsService.BidHistoryItem> last = items(7, 7);
+		when(bidQueryService.getHistoryChunk(eq(9L), isNull(), eq(3))).thenReturn(first);
+		when(bidQueryService.getHistoryChunk(9L, first.get(2), 3)).thenReturn(second);
+		when(bidQueryService.getHistoryChunk(9L, second.get(2), 3)).thenReturn(last);
+
+		List<BidsService.BidHistoryItem> streamed = new ArrayList<>();
+		service.streamHistory(9L, streamed::add);
+
+		assertThat(streamed).extracting(BidsService.BidHistoryItem::snapshotId).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+	}
+
+	@Test
+	void streamHistory_stopsOnAnEmptyChunkAfterAFullOne() {
+		List<BidsService.BidHistoryItem> first = items(1, 3);
+		when(bidQueryService.getHistoryChunk(eq(9L), isNull(), eq(3))).thenReturn(first);
+		when(bidQueryService.getHistoryChunk(9L, first.get(2), 3)).thenReturn(List.of());
+
+		List<BidsService.BidHistoryItem> streamed = new ArrayList<>();
+		service.streamHistory(9L, streamed::add);
+
+		assertThat(streamed).hasSize(3);
+	}
+
+	@Test
+	void streamHistory_servesHotAuctionsFromTheCache() {
+		when(bidHistoryCache.getIfHot(9L)).thenReturn(items(1, 5));
+
+		List<BidsService.BidHistoryItem> streamed = new ArrayList<>();
+		service.streamHistory(9L, streamed::add);
+
+		assertThat(streamed).hasSize(5);
+		verify(bidQueryService, never()).getHistoryChunk(anyLong(), any(), anyInt());
+	}
+
+	private static List<BidsService.BidHistoryItem> items(long from, long to) {
+		OffsetDateTime start = OffsetDateTime.of(2026, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+		return LongStream.rangeClosed(from, to)
+			.mapToObj(id -> new BidsService.BidHistoryItem(id, id, 7L, BigDecimal.valueOf(id), start.plusSeconds(id), "BID", "MANUAL"))
+			.toList();
+	}
+}
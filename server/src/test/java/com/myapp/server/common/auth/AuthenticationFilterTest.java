@@ -0,0 +1,106 @@
+package com.myapp.server.common.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuthenticationFilterTest {
+
+	private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+	private final JwtTokenExtractor jwtTokenExtractor = mock(JwtTokenExtractor.class);
+	private final AuthenticationFilter filter = new AuthenticationFilter(jwtTokenExtractor, objectMapper);
+
+	@BeforeEach
+	void anonymousByDefault() {
+		// Mockito would answer 0L for a Long
+		when(jwtTokenExtractor.getCurrentUserId(any())).thenReturn(null);
+	}
+
+	@Test
+	void protectedRoutes_rejectAnonymousCallers() throws Exception {
+		String[][] routes = {
+			{"POST", "/api/auctions"},
+			{"GET", "/api/auctions/my"},
+			{"GET", "/api/auctions/my/bidded"},
+			{"POST", "/api/auctions/42/bids"},
+			{"GET", "/api/bids/my/summary"},
+			{"GET", "/api/auth/me"},
+		};
+		for (String[] route : routes) {
+			MockFilterChain chain = new MockFilterChain();
+			MockHttpServletResponse response = run(new MockHttpServletRequest(route[0], route[1]), chain);
+
+			assertThat(response.getStatus()).as("%s %s", route[0], route[1]).isEqualTo(401);
+			assertThat(chain.getRequest()).as("%s %s", route[0], route[1]).isNull();
+		}
+	}
+
+	@Test
+	void unauthorizedBody_matchesTheExceptionHandlerShape() throws Exception {
+		MockHttpServletResponse response = run(new MockHttpServletRequest("GET", "/api/auth/me"), new MockFilterChain());
+
+		assertThat(response.getContentType()).isEqualTo("application/json");
+		JsonNode body = objectMapper.readTree(response.getContentAsByteArray());
+		assertThat(body.has("timestamp")).isTrue();
+		assertThat(body.get("status").asInt()).isEqualTo(401);
+		assertThat(body.get("error").asText()).isEqualTo("Unauthorized");
+		assertThat(body.get("message").asText()).isEqualTo("Authentication required");
+	}
+
+	@Test
+	void publicRoutes_passAnonymousCallersThrough() throws Exception {
+		String[][] routes = {
+			{"GET", "/api/auctions"},
+			{"GET", "/api/auctions/42"},
+			{"GET", "/api/auctions/42/page"},
+			{"GET", "/api/auctions/42/bids/history"},
+			{"POST", "/api/auth/login"},
+			{"OPTIONS", "/api/auctions/my"},
+		};
+		for (String[] route : routes) {
+			MockFilterChain chain = new MockFilterChain();
+			MockHttpServletRequest request = new MockHttpServletRequest(route[0], route[1]);
+			MockHttpServletResponse response = run(request, chain);
+
+			assertThat(response.getStatus()).as("%s %s", route[0], route[1]).isEqualTo(200);
+			assertThat(chain.getRequest()).as("%s %s", route[0], route[1]).isSameAs(request);
+			assertThat(request.getAttribute(AuthenticatedUser.REQUEST_ATTRIBUTE)).isNull();
+		}
+	}
+
+	@Test
+	void authenticatedCaller_isStoredOnTheRequest() throws Exception {
+		when(jwtTokenExtractor.getCurrentUserId(any())).thenReturn(7L);
+		MockFilterChain chain = new MockFilterChain();
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/auctions/my");
+
+		run(request, chain);
+
+		assertThat(chain.getRequest()).isSameAs(request);
+		assertThat(request.getAttribute(AuthenticatedUser.REQUEST_ATTRIBUTE)).isEqualTo(new AuthenticatedUser(7L));
+	}
+
+	@Test
+	void matchesRoutesBelowTheContextPath() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/app/api/bids/my/summary");
+		request.setContextPath("/app");
+
+		assertThat(run(request, new MockFilterChain()).getStatus()).isEqualTo(401);
+	}
+
+	private MockHttpServletResponse run(MockHttpServletRequest request, MockFilterChain chain) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, chain);
+		return response;
+	}
+}
@@ -0,0 +1,162 @@
+package com.myapp.server.common.cluster;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ClusterCoordinatorTest {
+
+	private static final int SLOT = 71001;
+	private static final int JOB = 71002;
+	private static final String OTHER_NODE = "other";
+
+	private final DataSource dataSource = mock(DataSource.class);
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	// Advisory locks currently granted, by (class, key), with the holding session
+	private final Map<List<Integer>, Object> locks = new HashMap<>();
+	private ClusterCoordinator coordinator;
+
+	@BeforeEach
+	void setUp() throws SQLException {
+		when(dataSource.getConnection()).thenAnswer(inv -> connection());
+		coordinator = new ClusterCoordinator(dataSource, meterRegistry, 4);
+	}
+
+	@Test
+	void notLeader_beforeJoining() {
+		assertThat(coordinator.isLeader()).isFalse();
+		assertThat(coordinator.runIfLeader("job", () -> {})).isFalse();
+		assertThat(meterRegistry.counter("scheduler.job.runs", "job", "job", "outcome", "skipped").count()).isEqualTo(1.0);
+	}
+
+	@Test
+	void notLeader_whenTheDatabaseIsUnreachable() throws SQLException {
+		when(dataSource.getConnection()).thenThrow(new SQLException("connection refused"));
+
+		coordinator.heartbeat();
+
+		assertThat(coordinator.isLeader()).isFalse();
+		assertThat(coordinator.shard()).isEqualTo(ClusterCoordinator.Shard.STANDALONE);
+	}
+
+	@Test
+	void heartbeat_takesTheFirstFreeSlot_andRanksAmongLiveSlots() {
+		locks.put(List.of(SLOT, 0), OTHER_NODE);
+		locks.put(List.of(SLOT, 2), OTHER_NODE);
+
+		coordinator.heartbeat();
+
+		assertThat(locks.get(List.of(SLOT, 1))).isNotEqualTo(OTHER_NODE).isNotNull();
+		assertThat(coordinator.shard()).isEqualTo(new ClusterCoordinator.Shard(1, 3));
+		assertThat(coordinator.owns(4)).isTrue();
+		assertThat(coordinator.owns(5)).isFalse();
+	}
+
+	@Test
+	void noShard_whenAllSlotsAreTaken() {
+		for (int slot = 0; slot < 4; slot++) {
+			locks.put(List.of(SLOT, slot), OTHER_NODE);
+		}
+
+		coordinator.heartbeat();
+
+		assertThat(coordinator.shard()).isEqualTo(ClusterCoordinator.Shard.NONE);
+		assertThat(coordinator.owns(1)).isFalse();
+	}
+
+	@Test
+	void leadership_movesOnlyWhenTheLeaderLockIsFree() {
+		locks.put(List.of(JOB, 0), OTHER_NODE);
+		AtomicBoolean ran = new AtomicBoolean();
+
+		coordinator.heartbeat();
+		assertThat(coordinator.isLeader()).isFalse();
+		assertThat(coordinator.runIfLeader("job", () -> ran.set(true))).isFalse();
+
+		locks.remove(List.of(JOB, 0));
+		coordinator.heartbeat();
+
+		assertThat(coordinator.isLeader()).isTrue();
+		assertThat(coordinator.runIfLeader("job", () -> ran.set(true))).isTrue();
+		assertThat(ran).isTrue();
+	}
+
+	@Test
+	void shutdown_releasesEveryLock() {
+		coordinator.heartbeat();
+		assertThat(coordinator.isLeader()).isTrue();
+
+		coordinator.shutdown();
+
+		assertThat(locks).isEmpty();
+		assertThat(coordinator.isLeader()).isFalse();
+	}
+
+	// === A pinned connection answering the three statements the coordinator sends ===
+
+	private Connection connection() throws SQLException {
+		Connection connection = mock(Connection.class);
+		when(connection.isValid(anyInt())).thenReturn(true);
+		when(connection.prepareStatement(anyString())).thenAnswer(inv -> prepared(connection, inv.getArgument(0)));
+		Statement statement = mock(Statement.class);
+		when(statement.execute(anyString())).thenAnswer(inv -> {
+			locks.values().removeIf(holder -> holder == connection);
+			return true;
+		});
+		when(connection.createStatement()).thenReturn(statement);
+		return connection;
+	}
+
+	private PreparedStatement prepared(Connection connection, String sql) throws SQLException {
+		PreparedStatement ps = mock(PreparedStatement.class);
+		Object[] args = new Object[3];
+		doAnswer(inv -> {
+			args[(int) inv.getArgument(0)] = inv.getArgument(1);
+			return null;
+		}).when(ps).setObject(anyInt(), any());
+		when(ps.executeQuery()).thenAnswer(inv -> {
+			if (sql.contains("pg_try_advisory_lock")) {
+				List<Integer> lock = List.of((Integer) args[1], (Integer) args[2]);
+				Object holder = locks.putIfAbsent(lock, connection);
+				return resultSet(List.of(holder == null || holder == connection));
+			}
+			List<Object> live = new ArrayList<>();
+			locks.keySet().stream().filter(lock -> lock.get(0) == SLOT).map(lock -> lock.get(1)).sorted().forEach(live::add);
+			return resultSet(live);
+		});
+		return ps;
+	}
+
+	private static ResultSet resultSet(List<Object> values) throws SQLException {
+		ResultSet rs = mock(ResultSet.class);
+		ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+		when(metaData.getColumnCount()).thenReturn(1);
+		when(rs.getMetaData()).thenReturn(metaData);
+		int[] row = {-1};
+		when(rs.next()).thenAnswer(inv -> ++row[0] < values.size());
+		when(rs.getBoolean(1)).thenAnswer(inv -> values.get(row[0]));
+		when(rs.getInt(1)).thenAnswer(inv -> values.get(row[0]));
+		return rs;
+	}
+}
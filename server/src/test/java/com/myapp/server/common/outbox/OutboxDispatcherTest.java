@@ -0,0 +1,125 @@
+package com.myapp.server.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxDispatcherTest {
+
+	record Pinged(long id) {}
+
+	private final JdbcTemplate jdbc = mock(JdbcTemplate.class);
+	private final List<Long> handled = new ArrayList<>();
+	private final OutboxHandler<Pinged> handler = new OutboxHandler<>() {
+		@Override
+		public Class<Pinged> eventType() {
+			return Pinged.class;
+		}
+
+		@Override
+		public void handle(Pinged event) {
+			if (event.id() < 0) {
+				throw new IllegalStateException("boom");
+			}
+			handled.add(event.id());
+		}
+	};
+	private final OutboxDispatcher dispatcher = new OutboxDispatcher(jdbc, new ObjectMapper(), new SimpleMeterRegistry(),
+		List.of(handler), 1, 10, 500, 60, 3);
+
+	@Test
+	void claimsWithTheLease_handlesInIdOrder_andDeletesHandledRows() throws Exception {
+		claim(row(2, 20, 1), row(1, 10, 1));
+
+		assertThat(dispatcher.dispatchBatch()).isEqualTo(2);
+
+		verify(jdbc).query(contains("FOR UPDATE SKIP LOCKED"), any(RowMapper.class), eq(60), eq(10));
+		assertThat(handled).containsExactly(10L, 20L);
+		ArgumentCaptor<List<Object[]>> deleted = ArgumentCaptor.captor();
+		verify(jdbc).batchUpdate(contains("DELETE FROM public.outbox_events"), deleted.capture());
+		assertThat(deleted.getValue()).extracting(args -> args[0]).containsExactly(1L, 2L);
+	}
+
+	@Test
+	void failedRow_isRescheduledWithBackoff_andNotDeleted() throws Exception {
+		claim(row(1, -1, 2));
+
+		dispatcher.dispatchBatch();
+
+		verify(jdbc).update(contains("failed_at = CASE"), eq(4L), eq("boom"), eq(false), eq(1L));
+		verify(jdbc, never()).batchUpdate(anyString(), anyList());
+	}
+
+	@Test
+	void rowOutOfAttempts_isParked() throws Exception {
+		claim(row(1, -1, 3));
+
+		dispatcher.dispatchBatch();
+
+		verify(jdbc).update(contains("failed_at = CASE"), eq(8L), eq("boom"), eq(true), eq(1L));
+	}
+
+	@Test
+	void oneFailureDoesNotHoldBackTheRestOfTheBatch() throws Exception {
+		claim(row(1, -1, 1), row(2, 20, 1));
+
+		dispatcher.dispatchBatch();
+
+		assertThat(handled).containsExactly(20L);
+		ArgumentCaptor<List<Object[]>> deleted = ArgumentCaptor.captor();
+		verify(jdbc).batchUpdate(anyString(), deleted.capture());
+		assertThat(deleted.getValue()).extracting(args -> args[0]).containsExactly(2L);
+	}
+
+	@Test
+	void backoff_doublesUpToFiveMinutes() {
+		assertThat(OutboxDispatcher.backoffSeconds(1)).isEqualTo(2);
+		assertThat(OutboxDispatcher.backoffSeconds(2)).isEqualTo(4);
+		assertThat(OutboxDispatcher.backoffSeconds(8)).isEqualTo(256);
+		assertThat(OutboxDispatcher.backoffSeconds(9)).isEqualTo(300);
+		assertThat(OutboxDispatcher.backoffSeconds(50)).isEqualTo(300);
+	}
+
+	private record Row(long id, long payloadId, int attempts) {}
+
+	private static Row row(long id, long payloadId, int attempts) {
+		return new Row(id, payloadId, attempts);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void claim(Row... rows) throws Exception {
+		when(jdbc.query(contains("FOR UPDATE SKIP LOCKED"), any(RowMapper.class), any(), any())).thenAnswer(invocation -> {
+			RowMapper<Object> mapper = invocation.getArgument(1);
+			List<Object> claimed = new ArrayList<>();
+			for (int i = 0; i < rows.length; i++) {
+				ResultSet rs = mock(ResultSet.class);
+				when(rs.getLong("id")).thenReturn(rows[i].id());
+				when(rs.getString("event_type")).thenReturn("Pinged");
+				when(rs.getString("payload")).thenReturn("{\"id\":" + rows[i].payloadId() + "}");
+				when(rs.getInt("attempts")).thenReturn(rows[i].attempts());
+				when(rs.getObject("created_at", OffsetDateTime.class)).thenReturn(OffsetDateTime.now());
+				claimed.add(mapper.mapRow(rs, i));
+			}
+			return claimed;
+		});
+	}
+}
@@ -0,0 +1,46 @@
+package com.myapp.server.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verify;
+
+class OutboxWriterTest {
+
+	record Handled(long id) {}
+
+	record Unhandled(long id) {}
+
+	private final JdbcTemplate jdbc = mock(JdbcTemplate.class);
+	private final OutboxWriter writer = new OutboxWriter(jdbc, new ObjectMapper(), List.of(new OutboxHandler<Handled>() {
+		@Override
+		public Class<Handled> eventType() {
+			return Handled.class;
+		}
+
+		@Override
+		public void handle(Handled event) {
+		}
+	}));
+
+	@Test
+	void appendsEventsThatHaveAHandler() {
+		writer.append(new Handled(5), 5L);
+
+		verify(jdbc).update(contains("INSERT INTO public.outbox_events"), eq("Handled"), eq(5L), eq("{\"id\":5}"));
+	}
+
+	@Test
+	void skipsEventsNobodyConsumes() {
+		writer.append(new Unhandled(5), 5L);
+
+		verifyNoInteractions(jdbc);
+	}
+}
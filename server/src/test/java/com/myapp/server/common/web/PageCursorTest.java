@@ -0,0 +1,54 @@
+package com.myapp.server.common.web;
+
+import com.myapp.server.common.exception.BusinessRuleViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTest {
+
+	@Test
+	void encodeDecode_roundTripsTheSameInstantAndId() {
+		PageCursor cursor = new PageCursor(OffsetDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_000, ZoneOffset.ofHours(2)), 42L);
+
+		PageCursor decoded = PageCursor.decode(cursor.encode());
+
+		assertThat(decoded.id()).isEqualTo(42L);
+		assertThat(decoded.sortKey().toInstant()).isEqualTo(cursor.sortKey().toInstant());
+		assertThat(decoded.sortKey().getOffset()).isEqualTo(ZoneOffset.UTC);
+	}
+
+	@Test
+	void encode_isUrlSafeWithoutPadding() {
+		String encoded = new PageCursor(OffsetDateTime.parse("2025-01-01T00:00:00Z"), Long.MAX_VALUE).encode();
+
+		assertThat(encoded).matches("[A-Za-z0-9_-]+");
+	}
+
+	@Test
+	void decode_nullOrBlankMeansFirstPage() {
+		assertThat(PageCursor.decode(null)).isNull();
+		assertThat(PageCursor.decode("  ")).isNull();
+	}
+
+	@Test
+	void decode_rejectsGarbageAsBadRequest() {
+		assertThatThrownBy(() -> PageCursor.decode("not-a-cursor"))
+			.isInstanceOf(BusinessRuleViolationException.class)
+			.satisfies(e -> assertThat(((BusinessRuleViolationException) e).getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+	}
+
+	@Test
+	void decode_rejectsTamperedId() {
+		String raw = "2025-01-01T00:00:00Z|abc";
+		String encoded = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes());
+
+		assertThatThrownBy(() -> PageCursor.decode(encoded)).isInstanceOf(BusinessRuleViolationException.class);
+	}
+}
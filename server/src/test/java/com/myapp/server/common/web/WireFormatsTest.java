@@ -0,0 +1,70 @@
+package com.myapp.server.common.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WireFormatsTest {
+
+	private final ObjectMapper jsonMapper = new ObjectMapper();
+	private final WireFormats wireFormats = wireFormats(jsonMapper);
+
+	@Test
+	void negotiate_defaultsToJson() {
+		assertThat(wireFormats.negotiate(null)).isEqualTo(MediaType.APPLICATION_JSON);
+		assertThat(wireFormats.negotiate(" ")).isEqualTo(MediaType.APPLICATION_JSON);
+		assertThat(wireFormats.negotiate("*/*")).isEqualTo(MediaType.APPLICATION_JSON);
+		assertThat(wireFormats.negotiate("application/*")).isEqualTo(MediaType.APPLICATION_JSON);
+		assertThat(wireFormats.negotiate("text/html")).isEqualTo(MediaType.APPLICATION_JSON);
+	}
+
+	@Test
+	void negotiate_malformedHeaderFallsBackToJson() {
+		assertThat(wireFormats.negotiate("application/cbor;q=")).isEqualTo(MediaType.APPLICATION_JSON);
+		assertThat(wireFormats.negotiate("not a media type")).isEqualTo(MediaType.APPLICATION_JSON);
+	}
+
+	@Test
+	void negotiate_picksBinaryFormatsOnlyWhenNamed() {
+		assertThat(wireFormats.negotiate("application/x-jackson-smile")).isEqualTo(WireFormats.SMILE);
+		assertThat(wireFormats.negotiate("application/cbor")).isEqualTo(WireFormats.CBOR);
+		assertThat(wireFormats.negotiate("application/cbor, */*;q=0.1")).isEqualTo(WireFormats.CBOR);
+	}
+
+	@Test
+	void negotiate_followsQualityValues() {
+		assertThat(wireFormats.negotiate("application/cbor;q=0.5, application/x-jackson-smile")).isEqualTo(WireFormats.SMILE);
+		assertThat(wireFormats.negotiate("application/x-jackson-smile;q=0.2, application/json;q=0.9")).isEqualTo(MediaType.APPLICATION_JSON);
+		assertThat(wireFormats.negotiate("application/cbor;q=0, application/json;q=0.1")).isEqualTo(MediaType.APPLICATION_JSON);
+	}
+
+	@Test
+	void negotiate_keepsHeaderOrderForEqualQuality() {
+		assertThat(wireFormats.negotiate("application/cbor, application/x-jackson-smile")).isEqualTo(WireFormats.CBOR);
+	}
+
+	@Test
+	void mapperFor_matchesTheNegotiatedFormat() {
+		assertThat(wireFormats.mapperFor(WireFormats.SMILE).getFactory()).isInstanceOf(SmileFactory.class);
+		assertThat(wireFormats.mapperFor(WireFormats.CBOR).getFactory()).isInstanceOf(CBORFactory.class);
+		assertThat(wireFormats.mapperFor(MediaType.APPLICATION_JSON)).isSameAs(jsonMapper);
+	}
+
+	// The application context hands out a fresh Jackson2ObjectMapperBuilder per injection point
+	private static WireFormats wireFormats(ObjectMapper jsonMapper) {
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerBeanDefinition("jacksonObjectMapperBuilder", BeanDefinitionBuilder
+			.genericBeanDefinition(Jackson2ObjectMapperBuilder.class, Jackson2ObjectMapperBuilder::json)
+			.setScope(BeanDefinition.SCOPE_PROTOTYPE)
+			.getBeanDefinition());
+		return new WireFormats(jsonMapper, beanFactory.getBeanProvider(Jackson2ObjectMapperBuilder.class));
+	}
+}
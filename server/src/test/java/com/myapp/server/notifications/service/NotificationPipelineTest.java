@@ -0,0 +1,160 @@
+package com.myapp.server.notifications.service;
+
+import com.myapp.server.notifications.dto.Notification;
+import com.myapp.server.notifications.dto.NotificationType;
+import com.myapp.server.notifications.sink.NotificationSink;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NotificationPipelineTest {
+
+	private NotificationPipeline pipeline;
+
+	@AfterEach
+	void stop() {
+		if (pipeline != null) {
+			pipeline.stop();
+		}
+	}
+
+	@Test
+	void failedBatch_isRetriedForTheFailingSinkOnly() throws Exception {
+		RecordingSink healthy = new RecordingSink("healthy", 0);
+		RecordingSink flaky = new RecordingSink("flaky", 2);
+		pipeline = pipeline(List.of(healthy, flaky), 5);
+		pipeline.start();
+
+		assertThat(pipeline.offer(notification(1L))).isTrue();
+
+		awaitDelivered(flaky, 1);
+		assertThat(flaky.attempts.get()).isEqualTo(3);
+		assertThat(healthy.delivered).hasSize(1);
+	}
+
+	@Test
+	void batch_isDroppedAfterMaxAttempts() throws Exception {
+		RecordingSink broken = new RecordingSink("broken", Integer.MAX_VALUE);
+		pipeline = pipeline(List.of(broken), 3);
+		pipeline.start();
+
+		pipeline.offer(notification(1L));
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (broken.attempts.get() < 3 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		Thread.sleep(200);
+		assertThat(broken.attempts.get()).isEqualTo(3);
+		assertThat(broken.delivered).isEmpty();
+	}
+
+	@Test
+	void offer_refusesWhenPendingAndRetryingFillTheBuffer() throws Exception {
+		RecordingSink broken = new RecordingSink("broken", Integer.MAX_VALUE);
+		pipeline = new NotificationPipeline(List.of(broken), new SimpleMeterRegistry(), 2, 1, 10, 1000, 10, 60_000);
+		pipeline.start();
+
+		assertThat(pipeline.offer(notification(1L))).isTrue();
+		assertThat(pipeline.offer(notification(2L))).isTrue();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (broken.attempts.get() < 2 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+
+		// Both are now held for retry, which still counts against max-pending
+		assertThat(pipeline.offer(notification(3L))).isFalse();
+	}
+
+	@Test
+	void publish_writesDurableSinksBeforeReturning() {
+		RecordingSink inbox = new RecordingSink("inbox", 0, true);
+		pipeline = pipeline(List.of(inbox), 5);
+
+		pipeline.publish(List.of(notification(1L), notification(2L)));
+
+		assertThat(inbox.delivered).hasSize(1);
+		assertThat(inbox.delivered.get(0)).hasSize(2);
+	}
+
+	@Test
+	void publish_propagatesDurableFailure_andSkipsTheBuffer() throws Exception {
+		RecordingSink inbox = new RecordingSink("inbox", 1, true);
+		RecordingSink log = new RecordingSink("log", 0);
+		pipeline = pipeline(List.of(inbox, log), 5);
+		pipeline.start();
+
+		assertThatThrownBy(() -> pipeline.publish(List.of(notification(1L))))
+			.isInstanceOf(IllegalStateException.class);
+		Thread.sleep(100);
+		assertThat(log.delivered).isEmpty();
+
+		// The outbox retries the event
+		pipeline.publish(List.of(notification(1L)));
+		assertThat(inbox.delivered).hasSize(1);
+		awaitDelivered(log, 1);
+	}
+
+	private static NotificationPipeline pipeline(List<NotificationSink> sinks, int maxAttempts) {
+		return new NotificationPipeline(sinks, new SimpleMeterRegistry(), 100, 1, 10, 1000, maxAttempts, 20);
+	}
+
+	private static Notification notification(long userId) {
+		return new Notification(userId, 10L, NotificationType.OUTBID, BigDecimal.TEN, OffsetDateTime.now());
+	}
+
+	private static void awaitDelivered(RecordingSink sink, int batches) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (sink.delivered.size() < batches && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(sink.delivered).hasSize(batches);
+	}
+
+	private static final class RecordingSink implements NotificationSink {
+
+		private final String name;
+		private final int failures;
+		private final boolean durable;
+		private final AtomicInteger attempts = new AtomicInteger();
+		private final List<List<Notification>> delivered = new CopyOnWriteArrayList<>();
+
+		RecordingSink(String name, int failures) {
+			this(name, failures, false);
+		}
+
+		RecordingSink(String name, int failures, boolean durable) {
+			this.name = name;
+			this.failures = failures;
+			this.durable = durable;
+		}
+
+		@Override
+		public boolean durable() {
+			return durable;
+		}
+
+		@Override
+		public String name() {
+			return name;
+		}
+
+		@Override
+		public void deliver(List<Notification> batch) {
+			if (attempts.incrementAndGet() <= failures) {
+				throw new IllegalStateException("sink down");
+			}
+			delivered.add(batch);
+		}
+	}
+}